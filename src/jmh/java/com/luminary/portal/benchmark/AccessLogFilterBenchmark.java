@@ -0,0 +1,75 @@
+package com.luminary.portal.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.luminary.portal.config.AccessLogProperties;
+import com.luminary.portal.filter.AccessLogFilter;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link AccessLogFilter} against the same request through a bare
+ * chain, at several sample rates and with four request threads contending for the ring.
+ * The {@code access} logger is switched off so console output does not drown the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class AccessLogFilterBenchmark {
+    @Param({"0.0", "0.1", "1.0"})
+    public double sampleRate;
+
+    private AccessLogFilter filter;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger("access")).setLevel(Level.OFF);
+        AccessLogProperties props = new AccessLogProperties();
+        props.setSuccessSampleRate(sampleRate);
+        filter = new AccessLogFilter(props);
+    }
+
+    @TearDown
+    public void tearDown() {
+        filter.stop();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse bareChain() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/search");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain().doFilter(request, response);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse withAccessLog() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/search");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
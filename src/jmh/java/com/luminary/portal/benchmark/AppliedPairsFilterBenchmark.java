@@ -0,0 +1,60 @@
+package com.luminary.portal.benchmark;
+
+import com.luminary.portal.config.DuplicateFilterProperties;
+import com.luminary.portal.repository.ApplicationRepository;
+import com.luminary.portal.service.AppliedPairsFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the duplicate-application pre-check that replaced the {@code existsBy} query for
+ * first-time applies: a definite miss, and a pair that was added.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppliedPairsFilterBenchmark {
+    private AppliedPairsFilter filter;
+    private long nextApplicant = 1_000_000;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        // an empty repository: the filter loads nothing and becomes ready at once
+        ApplicationRepository emptyRepo = (ApplicationRepository) Proxy.newProxyInstance(
+                ApplicationRepository.class.getClassLoader(), new Class<?>[]{ApplicationRepository.class},
+                (proxy, method, args) -> method.getReturnType() == List.class ? List.of() : null);
+        filter = new AppliedPairsFilter(emptyRepo, new DuplicateFilterProperties());
+        filter.loadOnStartup();
+        while (!filter.isReady()) {
+            Thread.sleep(10);
+        }
+        for (long applicant = 1; applicant <= 100_000; applicant++) {
+            filter.add(applicant % 500, applicant);
+        }
+    }
+
+    @Benchmark
+    public boolean newApplicant() {
+        return filter.mightContain(7L, nextApplicant++);
+    }
+
+    @Benchmark
+    public boolean repeatApplicant() {
+        return filter.mightContain(42L % 500, 42L);
+    }
+}
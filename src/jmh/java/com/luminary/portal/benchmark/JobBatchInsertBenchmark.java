@@ -0,0 +1,104 @@
+package com.luminary.portal.benchmark;
+
+import com.luminary.portal.LuminaryPortalApplication;
+import com.luminary.portal.dto.job.JobPostRequest;
+import com.luminary.portal.entity.enums.Role;
+import com.luminary.portal.security.AuthenticatedUser;
+import com.luminary.portal.service.JobPostService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Rows per second for one bulk-import chunk: {@link JobPostService#createJobBatch}, which
+ * flushes the chunk as JDBC batches in one transaction, against creating the same jobs
+ * one {@link JobPostService#createJob} call at a time, one insert and commit per job as
+ * when each was its own {@code POST /api/jobs}. Runs on in-memory H2 (PostgreSQL mode), which has no network round trip and no
+ * {@code reWriteBatchedInserts}, so the gap is a lower bound of what PostgreSQL shows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobBatchInsertBenchmark {
+    /** Matches the default bulk import batch size. */
+    private static final int CHUNK = 500;
+
+    private ConfigurableApplicationContext context;
+    private JobPostService jobService;
+    private TransactionTemplate perRequest;
+    private AuthenticatedUser employer;
+    private List<JobPostRequest> chunk;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(LuminaryPortalApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:batch-insert-benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+                        "--app.access-log.enabled=false",
+                        "--logging.level.root=WARN");
+        SearchBenchmark.seed(context, 0);
+
+        jobService = context.getBean(JobPostService.class);
+        perRequest = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        employer = new AuthenticatedUser(10_001L, "employer1@bench.example", "Employer 1", Role.EMPLOYER, 10_001L);
+        chunk = IntStream.range(0, CHUNK).mapToObj(JobBatchInsertBenchmark::request).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK)
+    public List<Long> batched() {
+        return jobService.createJobBatch(chunk, employer);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK)
+    public void perRow(Blackhole blackhole) {
+        for (JobPostRequest request : chunk) {
+            // one session per job, as open-in-view gives each POST /api/jobs
+            blackhole.consume(perRequest.execute(status -> jobService.createJob(request, employer)));
+        }
+    }
+
+    private static JobPostRequest request(int i) {
+        JobPostRequest request = new JobPostRequest();
+        request.setTitle("Bulk Java Engineer " + i);
+        request.setDescription("Imported opening number " + i + " for the platform team");
+        request.setLocation("Remote");
+        request.setSalary(90_000.0 + i);
+        request.setCompanyId(10_001L);
+        return request;
+    }
+}
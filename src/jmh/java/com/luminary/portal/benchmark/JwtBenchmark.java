@@ -0,0 +1,73 @@
+package com.luminary.portal.benchmark;
+
+import com.luminary.portal.service.JwtService;
+import com.luminary.portal.service.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification. {@code verifyCached} repeats one token, as a polling client
+ * does; {@code verifyUncached} cycles through more distinct tokens than the cache holds, so
+ * every call pays the HMAC check and claims parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    static final String SECRET = "EweR/r/HFo8LUunsCbFbpO68EQKGAPHouKDcElM5T6M=";
+    private static final int DISTINCT_TOKENS = 4096;
+
+    private JwtService cachingService;
+    private JwtService nonCachingService;
+    private Map<String, Object> claims;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cachingService = new JwtService(SECRET, 10_000, Duration.ofMinutes(15));
+        nonCachingService = new JwtService(SECRET, 1, Duration.ofMinutes(15));
+        claims = claims(42L);
+        token = cachingService.generateToken(claims, "seeker@example.com");
+        tokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            tokens[i] = cachingService.generateToken(claims(i), "seeker" + i + "@example.com");
+        }
+    }
+
+    static Map<String, Object> claims(long userId) {
+        return Map.of("uid", userId, "role", "JOB_SEEKER", "name", "Seeker " + userId);
+    }
+
+    @Benchmark
+    public String generate() {
+        return cachingService.generateToken(claims, "seeker@example.com");
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return cachingService.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyUncached() {
+        next = (next + 1) & (DISTINCT_TOKENS - 1);
+        return nonCachingService.verify(tokens[next]);
+    }
+}
@@ -0,0 +1,151 @@
+package com.luminary.portal.benchmark;
+
+import com.luminary.portal.config.AuthProperties;
+import com.luminary.portal.entity.User;
+import com.luminary.portal.entity.enums.Role;
+import com.luminary.portal.filter.JwtAuthenticationFilter;
+import com.luminary.portal.security.PrincipalCache;
+import com.luminary.portal.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtAuthenticationFilter} end to end on a bearer request: verification (cached after
+ * the first call), building the stateless principal and populating the security context.
+ * {@code legacyAuthenticate} is the filter as it was before: the token parsed three times
+ * with a freshly built key each time and the user loaded per request, here from memory so
+ * the comparison leaves out the database round trip the old filter also paid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+    private JwtAuthenticationFilter filter;
+    private LegacyJwtFilter legacyFilter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService(JwtBenchmark.SECRET, 10_000, Duration.ofMinutes(15));
+        AuthProperties authProps = new AuthProperties();
+        // the repository is only consulted for tokens without stateless claims
+        filter = new JwtAuthenticationFilter(jwtService, authProps, new PrincipalCache(null, authProps));
+        authorization = "Bearer " + jwtService.generateToken(JwtBenchmark.claims(42L), "seeker@example.com");
+
+        User seeker = User.builder()
+                .id(42L)
+                .name("Seeker 42")
+                .email("seeker@example.com")
+                .password("secret")
+                .role(Role.JOB_SEEKER)
+                .build();
+        legacyFilter = new LegacyJwtFilter(JwtBenchmark.SECRET, username -> seeker);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticate() throws ServletException, IOException {
+        return run(filter);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse legacyAuthenticate() throws ServletException, IOException {
+        return run(legacyFilter);
+    }
+
+    private MockHttpServletResponse run(OncePerRequestFilter target) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/search");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            target.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    /**
+     * The bearer filter and token parsing before stateless principals and the verified-token
+     * cache, kept here only as the baseline.
+     */
+    static class LegacyJwtFilter extends OncePerRequestFilter {
+        private final String secretKey;
+        private final UserDetailsService userDetailsService;
+
+        LegacyJwtFilter(String secretKey, UserDetailsService userDetailsService) {
+            this.secretKey = secretKey;
+            this.userDetailsService = userDetailsService;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            String authHeader = request.getHeader("Authorization");
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            String jwt = authHeader.substring(7);
+            String userName = extractAllClaims(jwt).getSubject();
+            if (userName != null && isTokenValid(jwt, userName)
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                var userDetails = userDetailsService.loadUserByUsername(userName);
+                var authToken = new UsernamePasswordAuthenticationToken(userDetails, null,
+                        userDetails.getAuthorities());
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+            }
+            filterChain.doFilter(request, response);
+        }
+
+        private boolean isTokenValid(String token, String userName) {
+            Date expiration = extractAllClaims(token).getExpiration();
+            return userName.equals(extractAllClaims(token).getSubject()) && !expiration.before(new Date());
+        }
+
+        private Claims extractAllClaims(String token) {
+            return Jwts.parserBuilder()
+                    .setSigningKey(signInKey())
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        }
+
+        private Key signInKey() {
+            return Keys.hmacShaKeyFor(secretKey.getBytes());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.luminary.portal.benchmark;
+
+import com.luminary.portal.LuminaryPortalApplication;
+import com.luminary.portal.dto.job.JobSearchRequest;
+import com.luminary.portal.dto.job.JobSearchResponse;
+import com.luminary.portal.service.JobPostService;
+import com.luminary.portal.service.JobStatusCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyword search answered by the in-memory keyword index against the database
+ * {@code LIKE} fallback, on the same data as {@link SearchBenchmark} and with the result
+ * cache off. {@code rareKeyword} matches about one job in 500 and stays on the index at
+ * every size; {@code commonKeyword} matches one job in eight, so from 100k jobs it exceeds
+ * {@code app.search.index.max-candidates} and the index path falls back to {@code LIKE} too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class KeywordSearchBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int jobs;
+
+    @Param({"index", "like"})
+    public String matcher;
+
+    private ConfigurableApplicationContext context;
+    private JobPostService jobService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(LuminaryPortalApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:keyword-benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+                        "--app.search.index.enabled=" + matcher.equals("index"),
+                        "--app.search.cache.enabled=false",
+                        "--app.access-log.enabled=false",
+                        "--logging.level.root=WARN");
+        SearchBenchmark.seed(context, jobs);
+
+        context.getBean(JobStatusCounters.class).reconcile();
+        jobService = context.getBean(JobPostService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public JobSearchResponse rareKeyword() {
+        return jobService.searchJobs(keywordRequest("team 123"));
+    }
+
+    @Benchmark
+    public JobSearchResponse commonKeyword() {
+        return jobService.searchJobs(keywordRequest("java engineer"));
+    }
+
+    private static JobSearchRequest keywordRequest(String keyword) {
+        JobSearchRequest request = new JobSearchRequest();
+        request.getSort().setBy("postedDate");
+        request.getFilter().setKeyword(keyword);
+        return request;
+    }
+}
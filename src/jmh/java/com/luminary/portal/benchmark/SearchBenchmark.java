@@ -0,0 +1,159 @@
+package com.luminary.portal.benchmark;
+
+import com.luminary.portal.LuminaryPortalApplication;
+import com.luminary.portal.config.SearchCacheProperties;
+import com.luminary.portal.dto.job.JobSearchRequest;
+import com.luminary.portal.dto.job.JobSearchResponse;
+import com.luminary.portal.dto.search.PaginationMode;
+import com.luminary.portal.service.JobPostService;
+import com.luminary.portal.service.JobStatusCounters;
+import com.luminary.portal.service.search.JobKeywordIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JobPostService#searchJobs} through the full application context against an
+ * in-memory H2 database (PostgreSQL mode) seeded with {@code jobs} rows, with the search
+ * result cache on and off. H2 plans differ from PostgreSQL, so compare branches with each
+ * other rather than against production latencies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+    private static final String[] LEVELS = {"Junior", "Senior", "Staff", "Lead", "Principal"};
+    private static final String[] ROLES = {"Java Engineer", "Data Analyst", "Product Designer", "QA Engineer",
+            "DevOps Engineer", "Recruiter", "Account Manager", "Frontend Developer"};
+    private static final String[] LOCATIONS = {"Remote", "Pune", "Bengaluru", "Mumbai", "Hyderabad", "Chennai"};
+    private static final String[] STATUSES = {"OPEN", "OPEN", "OPEN", "CLOSED"};
+    private static final int COMPANIES = 50;
+
+    @Param({"1000", "10000", "100000"})
+    public int jobs;
+
+    @Param({"false", "true"})
+    public boolean resultCache;
+
+    private ConfigurableApplicationContext context;
+    private JobPostService jobService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // command-line arguments, unlike builder default properties, outrank application.yml
+        context = new SpringApplicationBuilder(LuminaryPortalApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:search-benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+                        "--app.access-log.enabled=false",
+                        "--logging.level.root=WARN");
+        seed(context, jobs);
+
+        context.getBean(JobStatusCounters.class).reconcile();
+        context.getBean(SearchCacheProperties.class).setEnabled(resultCache);
+        jobService = context.getBean(JobPostService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Inserts {@code jobs} jobs spread over {@value #COMPANIES} companies and feeds them to the
+     * keyword index, which ignores them when it is disabled.
+     */
+    static void seed(ConfigurableApplicationContext context, int jobs) {
+        JdbcTemplate jdbc = new JdbcTemplate(context.getBean(DataSource.class));
+        JobKeywordIndex keywordIndex = context.getBean(JobKeywordIndex.class);
+        Random random = new Random(42);
+
+        for (int c = 1; c <= COMPANIES; c++) {
+            long userId = 10_000 + c;
+            jdbc.update("INSERT INTO jobportal.users (id, name, email, password, role) VALUES (?, ?, ?, ?, 'EMPLOYER')",
+                    userId, "Employer " + c, "employer" + c + "@bench.example", "secret");
+            jdbc.update("INSERT INTO jobportal.companies (id, name, location, owner_id) VALUES (?, ?, ?, ?)",
+                    10_000 + c, "Company " + c, LOCATIONS[c % LOCATIONS.length], userId);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(1000);
+        for (long id = 1; id <= jobs; id++) {
+            int company = 1 + random.nextInt(COMPANIES);
+            String title = LEVELS[random.nextInt(LEVELS.length)] + " " + ROLES[random.nextInt(ROLES.length)];
+            String description = "We are hiring a " + title + " to join team " + random.nextInt(500);
+            batch.add(new Object[]{id, title, description, LOCATIONS[random.nextInt(LOCATIONS.length)],
+                    40_000.0 + random.nextInt(160_000), STATUSES[random.nextInt(STATUSES.length)],
+                    10_000 + company, 10_000 + company, Timestamp.valueOf(now.minusMinutes(id))});
+            keywordIndex.index(id, title, description);
+            if (batch.size() == 1000 || id == jobs) {
+                jdbc.batchUpdate("INSERT INTO jobportal.job_posts (id, title, description, location, salary, status,"
+                        + " company_id, posted_by, posted_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @Benchmark
+    public JobSearchResponse firstPage() {
+        return jobService.searchJobs(newRequest());
+    }
+
+    @Benchmark
+    public JobSearchResponse keyword() {
+        JobSearchRequest request = newRequest();
+        request.getFilter().setKeyword("java engineer");
+        return jobService.searchJobs(request);
+    }
+
+    @Benchmark
+    public JobSearchResponse locationAndStatus() {
+        JobSearchRequest request = newRequest();
+        request.getFilter().setLocation("remote");
+        request.getFilter().setStatus("open");
+        request.getPagination().setPage(3);
+        return jobService.searchJobs(request);
+    }
+
+    @Benchmark
+    public JobSearchResponse cursorPage() {
+        JobSearchRequest request = newRequest();
+        request.getPagination().setMode(PaginationMode.CURSOR);
+        return jobService.searchJobs(request);
+    }
+
+    private static JobSearchRequest newRequest() {
+        JobSearchRequest request = new JobSearchRequest();
+        request.getSort().setBy("postedDate");
+        return request;
+    }
+}
@@ -0,0 +1,94 @@
+package com.luminary.portal.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luminary.portal.config.JacksonConfig;
+import com.luminary.portal.config.JobCacheProperties;
+import com.luminary.portal.dto.PagedResponse;
+import com.luminary.portal.dto.job.JobPostSummary;
+import com.luminary.portal.dto.job.JobSearchResponse;
+import com.luminary.portal.dto.search.TotalsMode;
+import com.luminary.portal.entity.enums.JobStatus;
+import com.luminary.portal.service.search.JobFragmentCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing a search page ({@link JobSearchResponse} around a {@link PagedResponse} of
+ * summaries) with plain Jackson against splicing cached job fragments. Both mappers are
+ * built the way Spring Boot builds its own, so date handling matches production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchSerializationBenchmark {
+    @Param({"20", "50"})
+    public int pageSize;
+
+    private ObjectMapper plain;
+    private ObjectMapper fragments;
+    private JobSearchResponse page;
+
+    @Setup
+    public void setUp() throws Exception {
+        plain = Jackson2ObjectMapperBuilder.json().build();
+        fragments = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new JacksonConfig().jobFragmentModule(new JobFragmentCache(new JobCacheProperties())))
+                .build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<JobPostSummary> content = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            content.add(new JobPostSummary(id, "Senior Java Engineer " + id, "Remote", 120_000.0 + id,
+                    JobStatus.OPEN, "Company " + id % 7, "Employer " + id % 11, now.minusMinutes(id)));
+        }
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("keyword", "java");
+        filters.put("location", null);
+        page = JobSearchResponse.builder()
+                .results(PagedResponse.<JobPostSummary>builder()
+                        .content(content)
+                        .currentPage(0)
+                        .totalItems(10_000L)
+                        .totalPages(10_000 / pageSize)
+                        .totalsMode(TotalsMode.EXACT)
+                        .hasNext(true)
+                        .build())
+                .totalActiveJobs(10_000)
+                .appliedFilters(filters)
+                .build();
+
+        if (!plain.writeValueAsString(page).equals(fragments.writeValueAsString(page))) {
+            throw new IllegalStateException("Fragment output differs from plain Jackson output");
+        }
+    }
+
+    @Benchmark
+    public byte[] plainJackson() throws Exception {
+        return plain.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] splicedFragments() throws Exception {
+        return fragments.writeValueAsBytes(page);
+    }
+}
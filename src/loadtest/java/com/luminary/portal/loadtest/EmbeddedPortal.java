@@ -0,0 +1,66 @@
+package com.luminary.portal.loadtest;
+
+import com.luminary.portal.LuminaryPortalApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The portal started inside the driver's JVM on an in-memory H2 database (PostgreSQL mode),
+ * filled by the {@code generate} profile at a size that loads in seconds. Portal properties
+ * given to the driver override these defaults, including the generator sizes.
+ */
+final class EmbeddedPortal implements AutoCloseable {
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedPortal(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static EmbeddedPortal start(Map<String, String> overrides) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.profiles.active", "generate");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.properties.hibernate.hbm2ddl.create_namespaces", "true");
+        properties.put("server.port", "0");
+        properties.put("app.generator.companies", "200");
+        properties.put("app.generator.job-seekers", "20000");
+        properties.put("app.generator.jobs", "5000");
+        properties.put("app.generator.applications", "200000");
+        properties.put("app.generator.exit-when-done", "false");
+        // the generate profile switches these off for bulk loads; a load test wants them as in production
+        properties.put("app.search.index.enabled", "true");
+        properties.put("app.applications.duplicate-filter.enabled", "true");
+        properties.putAll(overrides);
+
+        // command-line arguments outrank the profile's own application-generate.yml
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new EmbeddedPortal(new SpringApplicationBuilder(LuminaryPortalApplication.class).run(args));
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + context.getEnvironment().getRequiredProperty("local.server.port");
+    }
+
+    DataSource dataSource() {
+        return context.getBean(DataSource.class);
+    }
+
+    String schema() {
+        return context.getEnvironment().getProperty("spring.jpa.properties.hibernate.default_schema", "");
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,90 @@
+package com.luminary.portal.loadtest;
+
+import com.luminary.portal.service.metrics.LatencyHistogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measurements of one endpoint. Two histograms are kept: service time, from the moment the
+ * request was actually sent, and response time, from the moment it should have been sent.
+ * Only the second is free of coordinated omission: when the portal stalls, a closed-loop
+ * client stops sending and a saturated open-loop client sends late, and either way the
+ * requests that would have waited are missing from the service-time histogram.
+ */
+final class EndpointStats {
+    private final LatencyHistogram service = new LatencyHistogram();
+    private final LatencyHistogram response = new LatencyHistogram();
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    /**
+     * Records one request. A positive {@code expectedIntervalNanos} back-fills the samples a
+     * closed-loop client failed to take while it waited, the way HdrHistogram's
+     * {@code recordValueWithExpectedInterval} does: a 1 s stall with a 10 ms interval also
+     * records 990 ms, 980 ms, ... down to 10 ms.
+     */
+    void record(int status, long serviceNanos, long responseNanos, long expectedIntervalNanos) {
+        service.record(TimeUnit.NANOSECONDS.toMicros(serviceNanos));
+        long responseMicros = TimeUnit.NANOSECONDS.toMicros(responseNanos);
+        response.record(responseMicros);
+        long intervalMicros = TimeUnit.NANOSECONDS.toMicros(expectedIntervalNanos);
+        if (intervalMicros > 0) {
+            for (long missed = responseMicros - intervalMicros; missed >= intervalMicros; missed -= intervalMicros) {
+                response.record(missed);
+            }
+        }
+
+        statuses.computeIfAbsent(status, code -> new LongAdder()).increment();
+        if (status > 0 && status < 400) {
+            ok.increment();
+        } else if (status == 409) {
+            // duplicate applications are the portal answering correctly, not failing
+            rejected.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    void recordFailure(long serviceNanos, long responseNanos) {
+        record(0, serviceNanos, responseNanos, 0);
+    }
+
+    long requests() {
+        return ok.sum() + rejected.sum() + errors.sum();
+    }
+
+    long ok() {
+        return ok.sum();
+    }
+
+    long rejected() {
+        return rejected.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    LatencyHistogram.Snapshot service() {
+        return service.snapshot();
+    }
+
+    LatencyHistogram.Snapshot response() {
+        return response.snapshot();
+    }
+
+    /**
+     * Status code counts; 0 stands for requests that failed without a response.
+     */
+    Map<Integer, Long> statuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
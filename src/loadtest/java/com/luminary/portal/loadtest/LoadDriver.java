@@ -0,0 +1,319 @@
+package com.luminary.portal.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.luminary.portal.service.metrics.LatencyHistogram;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load driver for the portal's API. Logs every account in once, then drives the
+ * {@link Workload} mix against a portal started elsewhere ({@code --base-url}, accounts and
+ * jobs read over {@code --jdbc-url}) or inside this JVM on H2 ({@code --embedded}), and
+ * prints per-endpoint throughput and latency percentiles.
+ * <p>
+ * In {@code --mode=open} requests are sent at {@code --rate} per second on a fixed schedule
+ * and timed from their scheduled start, so a stall shows up in every request queued behind
+ * it. In {@code --mode=closed} {@code --concurrency} users send back to back, and the samples
+ * they could not take while blocked are back-filled using the expected interval between
+ * requests: {@code --expected-interval}, or else the think time plus the mean response
+ * time seen during warm-up.
+ */
+public final class LoadDriver {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final long DRAIN_TIMEOUT_SECONDS = 30;
+
+    private final LoadOptions options;
+    private final PortalClient client;
+    private final Workload workload;
+    private final Map<Workload.Endpoint, EndpointStats> stats = new EnumMap<>(Workload.Endpoint.class);
+
+    private LoadDriver(LoadOptions options, PortalClient client, Workload workload) {
+        this.options = options;
+        this.client = client;
+        this.workload = workload;
+        for (Workload.Endpoint endpoint : workload.endpoints()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        if (!options.embedded() && !options.portalProperties().isEmpty()) {
+            System.out.println("Ignoring portal properties without --embedded: " + options.portalProperties().keySet());
+        }
+
+        try (EmbeddedPortal portal = options.embedded() ? EmbeddedPortal.start(options.portalProperties()) : null) {
+            String baseUrl = portal != null ? portal.baseUrl() : options.baseUrl();
+            DataSource dataSource = portal != null ? portal.dataSource()
+                    : new DriverManagerDataSource(options.jdbcUrl(), options.jdbcUser(), options.jdbcPassword());
+            String schema = portal != null ? portal.schema() : options.schema();
+
+            PortalFixture fixture = PortalFixture.load(dataSource, schema, options.seekers(), options.hotJobs());
+            PortalClient client = new PortalClient(baseUrl, options.password());
+            Set<String> accounts = new LinkedHashSet<>(fixture.seekers());
+            fixture.hotJobs().forEach(hotJob -> accounts.add(hotJob.employerEmail()));
+            System.out.printf("Logging in %d accounts at %s%n", accounts.size(), baseUrl);
+            client.loginAll(accounts, 16);
+
+            LoadDriver driver = new LoadDriver(options, client, new Workload(options.mix(), client, fixture));
+            System.out.printf("Running %s loop for %ds after %ds warm-up%n", options.mode().name().toLowerCase(),
+                    options.duration().toSeconds(), options.warmup().toSeconds());
+            Map<String, Object> run = options.mode() == LoadOptions.Mode.OPEN ? driver.openLoop() : driver.closedLoop();
+            driver.report(run);
+        }
+    }
+
+    /**
+     * Sends on a fixed schedule; a request that cannot get an in-flight slot waits for one
+     * and is still timed from the moment it was due.
+     */
+    private Map<String, Object> openLoop() throws InterruptedException {
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        SplittableRandom random = new SplittableRandom(options.seed());
+        long maxLagNanos = 0;
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        double nanosPerRequest = TimeUnit.SECONDS.toNanos(1) / options.rate();
+
+        for (long sequence = 0; ; sequence++) {
+            long due = start + (long) (sequence * nanosPerRequest);
+            if (due >= end) {
+                break;
+            }
+            for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+
+            Workload.Endpoint endpoint = workload.pick(random);
+            Workload.Call call;
+            try {
+                call = workload.call(endpoint, random);
+            } catch (IOException e) {
+                inFlight.release();
+                recordFailure(endpoint, due, measureFrom);
+                continue;
+            }
+            long sent = System.nanoTime();
+            maxLagNanos = Math.max(maxLagNanos, sent - due);
+            client.http().sendAsync(call.request(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long done = System.nanoTime();
+                        inFlight.release();
+                        int status = failure == null ? response.statusCode() : 0;
+                        if (status == 401) {
+                            client.forget(call.account());
+                        }
+                        if (due >= measureFrom) {
+                            stats.get(call.endpoint()).record(status, done - sent, done - due, 0);
+                        }
+                    });
+        }
+        if (!inFlight.tryAcquire(options.maxInFlight(), DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            System.out.println("Some requests were still in flight after " + DRAIN_TIMEOUT_SECONDS + "s and are not counted");
+        }
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("mode", "open");
+        run.put("targetRate", options.rate());
+        run.put("maxInFlight", options.maxInFlight());
+        // how late the latest send was, waiting for an in-flight slot included; a lag near the
+        // longest response time means --max-in-flight, not the portal, capped the arrival rate
+        run.put("maxSendLagMs", TimeUnit.NANOSECONDS.toMicros(maxLagNanos) / 1000.0);
+        return run;
+    }
+
+    private Map<String, Object> closedLoop() throws Exception {
+        LatencyHistogram warmup = new LatencyHistogram();
+        AtomicLong expectedInterval = new AtomicLong(options.expectedInterval() != null
+                ? options.expectedInterval().toNanos() : -1);
+        long thinkNanos = options.thinkTime().toNanos();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+
+        ExecutorService users = Executors.newFixedThreadPool(options.concurrency());
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int user = 0; user < options.concurrency(); user++) {
+                SplittableRandom random = new SplittableRandom(options.seed() + user);
+                running.add(users.submit(() -> {
+                    for (long begin = System.nanoTime(); begin < end; begin = System.nanoTime()) {
+                        boolean measured = begin >= measureFrom;
+                        Workload.Endpoint endpoint = workload.pick(random);
+                        Workload.Call call;
+                        try {
+                            call = workload.call(endpoint, random);
+                        } catch (IOException e) {
+                            recordFailure(endpoint, begin, measureFrom);
+                            continue;
+                        }
+                        int status = send(call);
+                        long done = System.nanoTime();
+                        if (measured) {
+                            long interval = expectedInterval(expectedInterval, warmup, thinkNanos);
+                            stats.get(call.endpoint()).record(status, done - begin, done - begin, interval);
+                        } else {
+                            warmup.record(TimeUnit.NANOSECONDS.toMicros(done - begin));
+                        }
+                        if (thinkNanos > 0) {
+                            LockSupport.parkNanos(thinkNanos);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> user : running) {
+                user.get();
+            }
+        } finally {
+            users.shutdownNow();
+        }
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("mode", "closed");
+        run.put("concurrency", options.concurrency());
+        run.put("thinkTimeMs", options.thinkTime().toMillis());
+        run.put("expectedIntervalMs", Math.max(0, expectedInterval.get()) / 1_000_000.0);
+        return run;
+    }
+
+    /**
+     * Fixed on first use after warm-up, so every measured sample is corrected the same way.
+     */
+    private static long expectedInterval(AtomicLong expectedInterval, LatencyHistogram warmup, long thinkNanos) {
+        long interval = expectedInterval.get();
+        if (interval < 0) {
+            LatencyHistogram.Snapshot seen = warmup.snapshot();
+            long meanNanos = seen.count() == 0 ? 0 : TimeUnit.MICROSECONDS.toNanos(seen.sumMicros() / seen.count());
+            expectedInterval.compareAndSet(-1, thinkNanos + meanNanos);
+            interval = expectedInterval.get();
+        }
+        return interval;
+    }
+
+    private int send(Workload.Call call) throws InterruptedException {
+        try {
+            int status = client.http().send(call.request(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status == 401) {
+                client.forget(call.account());
+            }
+            return status;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * A request that could not be sent because its account failed to log in again.
+     */
+    private void recordFailure(Workload.Endpoint endpoint, long due, long measureFrom) {
+        if (due >= measureFrom) {
+            long elapsed = System.nanoTime() - due;
+            stats.get(endpoint).recordFailure(elapsed, elapsed);
+        }
+    }
+
+    private void report(Map<String, Object> run) throws IOException {
+        double seconds = options.duration().toMillis() / 1000.0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        LatencyHistogram.Snapshot allResponses = LatencyHistogram.Snapshot.empty();
+        LatencyHistogram.Snapshot allService = LatencyHistogram.Snapshot.empty();
+        long allRequests = 0;
+        long allErrors = 0;
+
+        System.out.printf("%n%-45s %9s %9s %7s %7s %9s %9s %9s %9s %9s %11s%n", "endpoint (response time, ms)",
+                "requests", "req/s", "409", "errors", "p50", "p90", "p99", "p99.9", "max", "service p99");
+        for (Map.Entry<Workload.Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            LatencyHistogram.Snapshot responses = endpoint.response();
+            LatencyHistogram.Snapshot service = endpoint.service();
+            printRow(entry.getKey().route(), endpoint.requests(), seconds, endpoint.rejected(), endpoint.errors(),
+                    responses, service);
+            endpoints.put(entry.getKey().route(), summary(endpoint.requests(), seconds, endpoint.errors(),
+                    responses, service, endpoint.statuses()));
+            allResponses.merge(responses);
+            allService.merge(service);
+            allRequests += endpoint.requests();
+            allErrors += endpoint.errors();
+        }
+        long allRejected = stats.values().stream().mapToLong(EndpointStats::rejected).sum();
+        printRow("all", allRequests, seconds, allRejected, allErrors, allResponses, allService);
+        run.forEach((name, value) -> System.out.printf("%s: %s%n", name, value));
+
+        if (options.report() != null) {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("run", run);
+            report.put("durationSeconds", seconds);
+            report.put("endpoints", endpoints);
+            report.put("all", summary(allRequests, seconds, allErrors, allResponses, allService, Map.of()));
+            Path path = Path.of(options.report());
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+            System.out.println("Report written to " + path.toAbsolutePath());
+        }
+    }
+
+    private static void printRow(String name, long requests, double seconds, long rejected, long errors,
+                                 LatencyHistogram.Snapshot responses, LatencyHistogram.Snapshot service) {
+        System.out.printf("%-45s %9d %9.1f %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f %11.2f%n", name, requests,
+                requests / seconds, rejected, errors,
+                millis(responses.percentileMicros(50)), millis(responses.percentileMicros(90)),
+                millis(responses.percentileMicros(99)), millis(responses.percentileMicros(99.9)),
+                millis(responses.maxMicros()), millis(service.percentileMicros(99)));
+    }
+
+    private static Map<String, Object> summary(long requests, double seconds, long errors,
+                                               LatencyHistogram.Snapshot responses, LatencyHistogram.Snapshot service,
+                                               Map<Integer, Long> statuses) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", requests);
+        summary.put("throughputPerSecond", requests / seconds);
+        summary.put("errors", errors);
+        if (!statuses.isEmpty()) {
+            summary.put("statuses", statuses);
+        }
+        summary.put("responseTimeMs", percentiles(responses));
+        summary.put("serviceTimeMs", percentiles(service));
+        return summary;
+    }
+
+    private static Map<String, Double> percentiles(LatencyHistogram.Snapshot snapshot) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            percentiles.put("p" + (percentile == Math.rint(percentile) ? String.valueOf((int) percentile)
+                    : String.valueOf(percentile)), millis(snapshot.percentileMicros(percentile)));
+        }
+        percentiles.put("max", millis(snapshot.maxMicros()));
+        percentiles.put("mean", snapshot.count() == 0 ? 0 : millis(snapshot.sumMicros() / snapshot.count()));
+        return percentiles;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
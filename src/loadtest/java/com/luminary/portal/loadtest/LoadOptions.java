@@ -0,0 +1,125 @@
+package com.luminary.portal.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line of {@link LoadDriver}: {@code --name=value} pairs and bare {@code --flag}s.
+ * Arguments under {@code spring.}, {@code server.}, {@code app.} and {@code jwt.} are not
+ * driver options; they are handed to the embedded portal, so one driver run can compare
+ * settings such as {@code --spring.threads.virtual.enabled=true} (only takes effect when
+ * the driver runs on Java 21+) or {@code --app.applications.intake.enabled=true}.
+ */
+record LoadOptions(boolean embedded,
+                   String baseUrl,
+                   Mode mode,
+                   double rate,
+                   int concurrency,
+                   int maxInFlight,
+                   Duration thinkTime,
+                   Duration expectedInterval,
+                   Duration warmup,
+                   Duration duration,
+                   String mix,
+                   int seekers,
+                   int hotJobs,
+                   String password,
+                   String jdbcUrl,
+                   String jdbcUser,
+                   String jdbcPassword,
+                   String schema,
+                   String report,
+                   long seed,
+                   Map<String, String> portalProperties) {
+
+    enum Mode {
+        /** Requests arrive at a fixed rate whether or not earlier ones have finished. */
+        OPEN,
+        /** A fixed number of users, each waiting for its response before sending the next request. */
+        CLOSED
+    }
+
+    private static final String[] PORTAL_PREFIXES = {"spring.", "server.", "app.", "jwt."};
+
+    static LoadOptions parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        Map<String, String> portalProperties = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            int equals = arg.indexOf('=');
+            String name = equals < 0 ? arg.substring(2) : arg.substring(2, equals);
+            String value = equals < 0 ? "true" : arg.substring(equals + 1);
+            if (isPortalProperty(name)) {
+                portalProperties.put(name, value);
+            } else {
+                options.put(name, value);
+            }
+        }
+
+        LoadOptions parsed = new LoadOptions(
+                Boolean.parseBoolean(options.remove("embedded")),
+                options.getOrDefault("base-url", "http://localhost:8082"),
+                Mode.valueOf(options.getOrDefault("mode", "closed").toUpperCase(Locale.ROOT)),
+                Double.parseDouble(options.getOrDefault("rate", "200")),
+                Integer.parseInt(options.getOrDefault("concurrency", "32")),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "512")),
+                duration(options.getOrDefault("think-time", "0s")),
+                options.containsKey("expected-interval") ? duration(options.get("expected-interval")) : null,
+                duration(options.getOrDefault("warmup", "10s")),
+                duration(options.getOrDefault("duration", "60s")),
+                options.getOrDefault("mix", "search:70,mine:15,apply:10,applicants:5"),
+                Integer.parseInt(options.getOrDefault("seekers", "500")),
+                Integer.parseInt(options.getOrDefault("hot-jobs", "20")),
+                options.getOrDefault("password", "password"),
+                options.getOrDefault("jdbc-url", "jdbc:postgresql://localhost:5432/luminary_portal"),
+                options.getOrDefault("jdbc-user", "postgres"),
+                options.getOrDefault("jdbc-password", "r00tp@ss"),
+                options.getOrDefault("schema", "jobportal"),
+                options.get("report"),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                portalProperties);
+
+        for (String known : new String[]{"base-url", "mode", "rate", "concurrency", "max-in-flight", "think-time",
+                "expected-interval", "warmup", "duration", "mix", "seekers", "hot-jobs", "password", "jdbc-url",
+                "jdbc-user", "jdbc-password", "schema", "report", "seed"}) {
+            options.remove(known);
+        }
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        }
+        if (parsed.mode() == Mode.OPEN && parsed.rate() <= 0) {
+            throw new IllegalArgumentException("--rate must be positive in open-loop mode");
+        }
+        return parsed;
+    }
+
+    private static boolean isPortalProperty(String name) {
+        for (String prefix : PORTAL_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accepts {@code 500ms}, {@code 30s}, {@code 2m} or an ISO-8601 duration.
+     */
+    static Duration duration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.startsWith("p")) {
+            return Duration.parse(value.trim());
+        } else if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        } else if (text.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+        } else if (text.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        throw new IllegalArgumentException("Unreadable duration " + value);
+    }
+}
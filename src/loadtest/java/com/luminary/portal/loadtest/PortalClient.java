@@ -0,0 +1,104 @@
+package com.luminary.portal.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * HTTP access to the portal. Every account logs in once through {@code /api/auth/login}
+ * before the run and its token is reused for all its requests; a 401 during the run drops
+ * the token so the account logs in again.
+ */
+final class PortalClient {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String baseUrl;
+    private final String password;
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+    PortalClient(String baseUrl, String password) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.password = password;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    HttpClient http() {
+        return http;
+    }
+
+    void loginAll(Collection<String> emails, int parallelism) throws Exception {
+        ExecutorService logins = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        try {
+            List<Future<String>> pending = new ArrayList<>();
+            for (String email : emails) {
+                pending.add(logins.submit(() -> token(email)));
+            }
+            for (Future<String> login : pending) {
+                login.get();
+            }
+        } finally {
+            logins.shutdownNow();
+        }
+    }
+
+    String token(String email) throws IOException, InterruptedException {
+        String token = tokens.get(email);
+        if (token == null) {
+            token = login(email);
+            tokens.put(email, token);
+        }
+        return token;
+    }
+
+    void forget(String email) {
+        tokens.remove(email);
+    }
+
+    private String login(String email) throws IOException, InterruptedException {
+        String body = mapper.writeValueAsString(Map.of("email", email, "password", password));
+        HttpRequest request = json("/api/auth/login").POST(HttpRequest.BodyPublishers.ofString(body)).build();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Login as " + email + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        JsonNode token = mapper.readTree(response.body()).get("token");
+        if (token == null || token.isNull()) {
+            throw new IOException("Login as " + email + " returned no token");
+        }
+        return token.asText();
+    }
+
+    HttpRequest.Builder json(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    HttpRequest.Builder authorized(String path, String email) throws IOException, InterruptedException {
+        return json(path).header("Authorization", "Bearer " + token(email));
+    }
+
+    String toJson(Object value) throws IOException {
+        return mapper.writeValueAsString(value);
+    }
+}
@@ -0,0 +1,50 @@
+package com.luminary.portal.loadtest;
+
+import com.luminary.portal.service.generator.SyntheticDataGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * The accounts and jobs a run works with, read from the portal's database: generated job
+ * seekers, the open jobs in the database, and the most-applied-to jobs together with the
+ * employers that own them, whose applicant searches are the expensive ones and whose
+ * duplicate checks see the most contention.
+ */
+record PortalFixture(List<String> seekers, List<HotJob> hotJobs, long[] openJobs) {
+    private static final int MAX_OPEN_JOBS = 100_000;
+
+    record HotJob(String employerEmail, long jobId, boolean open) {
+    }
+
+    static PortalFixture load(DataSource dataSource, String schema, int seekers, int hotJobs) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        String s = schema.isBlank() ? "" : schema + ".";
+        String generated = "%@" + SyntheticDataGenerator.EMAIL_DOMAIN;
+
+        List<String> seekerEmails = jdbc.queryForList(
+                "SELECT email FROM " + s + "users WHERE role = 'JOB_SEEKER' AND email LIKE ? ORDER BY id DESC LIMIT ?",
+                String.class, generated, seekers);
+        if (seekerEmails.isEmpty()) {
+            throw new IllegalStateException("No generated job seekers in " + s + "users; "
+                    + "load data with --spring.profiles.active=generate first");
+        }
+
+        List<HotJob> hot = jdbc.query("""
+                SELECT u.email, j.id, j.status = 'OPEN' FROM %1$sjob_posts j
+                JOIN %1$susers u ON u.id = j.posted_by
+                JOIN (SELECT a.job_id, COUNT(*) AS applicants FROM %1$sapplications a GROUP BY a.job_id) counted
+                    ON counted.job_id = j.id
+                WHERE u.email LIKE ?
+                ORDER BY counted.applicants DESC LIMIT ?
+                """.formatted(s),
+                (row, index) -> new HotJob(row.getString(1), row.getLong(2), row.getBoolean(3)), generated, hotJobs);
+
+        long[] open = jdbc.queryForList(
+                        "SELECT id FROM " + s + "job_posts WHERE status = 'OPEN' ORDER BY id DESC LIMIT ?",
+                        Long.class, MAX_OPEN_JOBS)
+                .stream().mapToLong(Long::longValue).toArray();
+        return new PortalFixture(seekerEmails, hot, open);
+    }
+}
@@ -0,0 +1,167 @@
+package com.luminary.portal.loadtest;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The request mix. {@code --mix=search:70,mine:15,apply:10,applicants:5} gives the relative
+ * weight of each endpoint; every call picks an endpoint by weight, then an account and its
+ * arguments at random from the {@link PortalFixture}. Applications go to the open hot jobs,
+ * where many seekers race for the same job, or to any open job when none of those is open.
+ */
+final class Workload {
+    private static final String[] KEYWORDS = {
+            "engineer", "java", "developer", "data", "senior", "python", "manager", "backend", "react",
+            "analyst", "kafka", "payments", "cloud", "designer", "platform", "security", "kubernetes"
+    };
+    private static final String[] LOCATIONS = {"Bengaluru", "Pune", "Hyderabad", "Mumbai", "Chennai", "Remote"};
+
+    enum Endpoint {
+        SEARCH("GET /api/jobs/search"),
+        MINE("GET /api/applications/my-applications"),
+        APPLY("POST /api/applications/apply"),
+        APPLICANTS("POST /api/applications/job/{jobId}/search");
+
+        private final String route;
+
+        Endpoint(String route) {
+            this.route = route;
+        }
+
+        String route() {
+            return route;
+        }
+    }
+
+    /**
+     * One request to send; {@code account} is the email whose token it carries.
+     */
+    record Call(Endpoint endpoint, String account, HttpRequest request) {
+    }
+
+    private final PortalClient client;
+    private final PortalFixture fixture;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final long[] applyJobs;
+
+    Workload(String mix, PortalClient client, PortalFixture fixture) {
+        this.client = client;
+        this.fixture = fixture;
+        long[] hotOpenJobs = fixture.hotJobs().stream()
+                .filter(PortalFixture.HotJob::open)
+                .mapToLong(PortalFixture.HotJob::jobId)
+                .toArray();
+        this.applyJobs = hotOpenJobs.length > 0 ? hotOpenJobs : fixture.openJobs();
+
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String part : mix.split(",")) {
+            String[] nameAndWeight = part.trim().split(":");
+            if (nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("Expected endpoint:weight in --mix, got " + part);
+            }
+            int weight = Integer.parseInt(nameAndWeight[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.valueOf(nameAndWeight[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (weights.containsKey(Endpoint.APPLICANTS) && fixture.hotJobs().isEmpty()) {
+            weights.remove(Endpoint.APPLICANTS);
+            System.out.println("No applications in the database; dropping applicant searches from the mix");
+        }
+        if (weights.containsKey(Endpoint.APPLY) && applyJobs.length == 0) {
+            weights.remove(Endpoint.APPLY);
+            System.out.println("No open jobs in the database; dropping applications from the mix");
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("--mix has no endpoint with a positive weight");
+        }
+
+        this.endpoints = weights.keySet().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weights.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Endpoint[] endpoints() {
+        return endpoints;
+    }
+
+    Endpoint pick(SplittableRandom random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (roll >= cumulativeWeights[index]) {
+            index++;
+        }
+        return endpoints[index];
+    }
+
+    /**
+     * Builds a request for the endpoint; fails only when the chosen account cannot log in.
+     */
+    Call call(Endpoint endpoint, SplittableRandom random) throws IOException, InterruptedException {
+        return switch (endpoint) {
+            case SEARCH -> search(random);
+            case MINE -> mine(random);
+            case APPLY -> apply(random);
+            case APPLICANTS -> applicants(random);
+        };
+    }
+
+    private Call search(SplittableRandom random) throws IOException, InterruptedException {
+        String seeker = seeker(random);
+        StringBuilder query = new StringBuilder("/api/jobs/search?size=20&sortBy=postedDate&sortDir=desc");
+        if (random.nextInt(10) < 8) {
+            query.append("&keyword=").append(encode(KEYWORDS[random.nextInt(KEYWORDS.length)]));
+        }
+        if (random.nextInt(10) < 3) {
+            query.append("&location=").append(encode(LOCATIONS[random.nextInt(LOCATIONS.length)]));
+        }
+        if (random.nextBoolean()) {
+            query.append("&status=OPEN");
+        }
+        if (random.nextInt(10) < 2) {
+            query.append("&page=").append(1 + random.nextInt(5));
+        }
+        return new Call(Endpoint.SEARCH, seeker, client.authorized(query.toString(), seeker).GET().build());
+    }
+
+    private Call mine(SplittableRandom random) throws IOException, InterruptedException {
+        String seeker = seeker(random);
+        return new Call(Endpoint.MINE, seeker,
+                client.authorized("/api/applications/my-applications", seeker).GET().build());
+    }
+
+    private Call apply(SplittableRandom random) throws IOException, InterruptedException {
+        String seeker = seeker(random);
+        long jobId = applyJobs[random.nextInt(applyJobs.length)];
+        String body = client.toJson(Map.of("jobId", jobId, "resumeUrl", "https://resumes.example.com/loadtest.pdf"));
+        return new Call(Endpoint.APPLY, seeker, client.authorized("/api/applications/apply", seeker)
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build());
+    }
+
+    private Call applicants(SplittableRandom random) throws IOException, InterruptedException {
+        PortalFixture.HotJob hotJob = fixture.hotJobs().get(random.nextInt(fixture.hotJobs().size()));
+        String body = client.toJson(Map.of("page", random.nextInt(3), "size", 20));
+        return new Call(Endpoint.APPLICANTS, hotJob.employerEmail(),
+                client.authorized("/api/applications/job/" + hotJob.jobId() + "/search", hotJob.employerEmail())
+                        .POST(HttpRequest.BodyPublishers.ofString(body)).build());
+    }
+
+    private String seeker(SplittableRandom random) {
+        return fixture.seekers().get(random.nextInt(fixture.seekers().size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
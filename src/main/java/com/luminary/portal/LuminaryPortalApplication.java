@@ -4,10 +4,12 @@ import io.jsonwebtoken.io.Encoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.security.Key;
 
 @SpringBootApplication
+@EnableScheduling
 public class LuminaryPortalApplication {
 
 	public static void main(String[] args) {
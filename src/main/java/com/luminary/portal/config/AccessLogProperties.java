@@ -0,0 +1,27 @@
+package com.luminary.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.access-log")
+@Getter
+@Setter
+public class AccessLogProperties {
+    private boolean enabled = true;
+    /**
+     * Fraction of fast, successful (below 400) requests that are logged; errors and slow
+     * requests are always logged.
+     */
+    private double successSampleRate = 0.1;
+    private Duration slowThreshold = Duration.ofSeconds(1);
+    /**
+     * Records waiting for the writer thread, rounded up to a power of two. When full,
+     * records are dropped and counted rather than blocking the request.
+     */
+    private int bufferSize = 8192;
+}
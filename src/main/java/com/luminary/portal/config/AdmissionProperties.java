@@ -0,0 +1,30 @@
+package com.luminary.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.admission")
+@Getter
+@Setter
+public class AdmissionProperties {
+    /**
+     * Meant for virtual-thread mode (Java 21+), where nothing else caps how many requests
+     * queue up for a database connection.
+     */
+    private boolean enabled = false;
+    /**
+     * Concurrent API requests admitted; 0 sizes it to the Hikari maximum pool size.
+     */
+    private int permits = 0;
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+    private Duration retryAfter = Duration.ofSeconds(1);
+    /**
+     * Report virtual threads pinned to their carrier for at least this long.
+     */
+    private Duration pinningThreshold = Duration.ofMillis(20);
+}
@@ -0,0 +1,22 @@
+package com.luminary.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.auth")
+@Getter
+@Setter
+public class AuthProperties {
+    /**
+     * Build the request principal from the token's uid/role/cid claims without a
+     * database lookup. Tokens issued without those claims still go through the cache.
+     */
+    private boolean statelessPrincipal = true;
+    private long principalCacheMaxSize = 10000;
+    private Duration principalCacheTtl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,19 @@
+package com.luminary.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.jobs.bulk")
+@Getter
+@Setter
+public class BulkImportProperties {
+    /**
+     * Jobs written per transaction; Hibernate splits each into JDBC batches of
+     * {@code hibernate.jdbc.batch_size}.
+     */
+    private int batchSize = 500;
+    private int maxItems = 10000;
+}
@@ -0,0 +1,21 @@
+package com.luminary.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.applications.duplicate-filter")
+@Getter
+@Setter
+public class DuplicateFilterProperties {
+    private boolean enabled = true;
+    /**
+     * Sizing input for the Bloom filter; past this many applications the false-positive
+     * rate climbs above {@code falsePositiveRate} and more applies fall back to the query.
+     */
+    private long expectedApplications = 2_000_000;
+    private double falsePositiveRate = 0.01;
+    private int loadBatchSize = 5000;
+}
@@ -0,0 +1,48 @@
+package com.luminary.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Sizing of the synthetic data set loaded by the {@code generate} profile.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.generator")
+@Getter
+@Setter
+public class GeneratorProperties {
+    /**
+     * Companies to create, each owned by its own employer account.
+     */
+    private int companies = 2_000;
+    private int jobSeekers = 1_000_000;
+    private int jobs = 200_000;
+    private long applications = 10_000_000;
+    /**
+     * Zipf exponent of applications over jobs; around 1 a handful of jobs draw a large
+     * share of all applicants while most get a few.
+     */
+    private double jobSkew = 1.0;
+    /**
+     * Zipf exponent of jobs over companies.
+     */
+    private double companySkew = 0.8;
+    /**
+     * Password of every generated account. It is hashed once, at this BCrypt strength,
+     * so logins with generated accounts stay cheap during load tests.
+     */
+    private String password = "password";
+    private int bcryptStrength = 4;
+    /**
+     * Rows per JDBC batch when the database does not support {@code COPY}.
+     */
+    private int batchSize = 5_000;
+    /**
+     * Connections loading applications at once.
+     */
+    private int parallelism = 4;
+    private long seed = 42;
+    private boolean exitWhenDone = false;
+}
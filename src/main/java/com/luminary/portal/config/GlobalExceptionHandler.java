@@ -1,10 +1,13 @@
 package com.luminary.portal.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.luminary.portal.exception.DuplicateApplicationException;
 import com.luminary.portal.exception.ResourceNotFoundException;
+import com.luminary.portal.exception.ServiceOverloadedException;
 import com.luminary.portal.exception.UnauthorizedOperationException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -44,6 +47,12 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, "Invalid input", ex.getMessage());
     }
 
+    @ExceptionHandler(JsonProcessingException.class)
+    public ResponseEntity<Map<String, Object>> handleMalformedJson(JsonProcessingException ex) {
+        log.warn("Malformed JSON: {}", ex.getOriginalMessage());
+        return buildResponse(HttpStatus.BAD_REQUEST, "Invalid input", ex.getOriginalMessage());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationException(MethodArgumentNotValidException ex) {
         String details = ex.getBindingResult().getFieldErrors().stream()
@@ -89,6 +98,14 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.FORBIDDEN, "Unauthorized operation", ex.getMessage());
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleOverloaded(ServiceOverloadedException ex) {
+        log.warn("Request shed: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(buildResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service busy", ex.getMessage()).getBody());
+    }
+
     private ResponseEntity<Map<String, Object>> buildResponse(HttpStatus status, String message, String details) {
         Map<String, Object> body = Map.of(
                 "timestamp", LocalDateTime.now(),
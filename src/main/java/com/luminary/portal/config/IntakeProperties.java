@@ -0,0 +1,33 @@
+package com.luminary.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.applications.intake")
+@Getter
+@Setter
+public class IntakeProperties {
+    /**
+     * Acknowledge applies with a provisional id and insert them in the background.
+     */
+    private boolean enabled = false;
+    private int queueCapacity = 10000;
+    private int batchSize = 200;
+    private Duration maxBatchDelay = Duration.ofMillis(200);
+    private String journalPath = "data/application-intake.journal";
+    /**
+     * Force every accepted application to disk before acknowledging it.
+     */
+    private boolean journalSync = true;
+    private Duration retryAfter = Duration.ofSeconds(2);
+    private Duration statusRetention = Duration.ofHours(1);
+    /**
+     * Provisional ids kept for status lookups; past this, ids are evicted before their retention ends.
+     */
+    private long statusMaxSize = 100000;
+}
@@ -0,0 +1,38 @@
+package com.luminary.portal.config;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.luminary.portal.dto.job.JobPostSummary;
+import com.luminary.portal.service.search.JobFragmentCache;
+import com.luminary.portal.service.search.JobSummaryFragmentSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Registered with Spring's ObjectMapper only, so search pages splice cached job
+     * fragments while other mappers keep plain bean serialization.
+     */
+    @Bean
+    public Module jobFragmentModule(JobFragmentCache fragments) {
+        SimpleModule module = new SimpleModule("job-fragments");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                if (beanDesc.getBeanClass() == JobPostSummary.class) {
+                    return new JobSummaryFragmentSerializer((JsonSerializer<Object>) serializer, fragments);
+                }
+                return serializer;
+            }
+        });
+        return module;
+    }
+}
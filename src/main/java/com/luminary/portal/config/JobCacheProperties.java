@@ -0,0 +1,24 @@
+package com.luminary.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.jobs.cache")
+@Getter
+@Setter
+public class JobCacheProperties {
+    private long maxSize = 10000;
+    /**
+     * Upper bound on staleness for writes made by other instances, which this
+     * instance's invalidation does not see.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+    /** Serialized JSON of search rows, spliced into pages instead of re-serializing them. */
+    private boolean fragmentsEnabled = true;
+    private long fragmentMaxSize = 20000;
+}
@@ -0,0 +1,96 @@
+package com.luminary.portal.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes behind the compiled job search that JPA cannot declare: expression indexes on
+ * the lower-cased location, and trigram indexes that let {@code LIKE '%term%'} on titles,
+ * descriptions and company names use an index scan. PostgreSQL only. Indexes are built
+ * {@code CONCURRENTLY} so startup against a live table does not block job writes; each
+ * statement is a no-op once its index exists, and a failure (e.g. no rights to install
+ * {@code pg_trgm}) is logged and leaves search working on the remaining indexes.
+ */
+@Slf4j
+@Component
+public class JobSearchIndexes {
+    private final JdbcTemplate jdbc;
+    private final String schema;
+
+    public JobSearchIndexes(DataSource dataSource,
+                            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.schema = schema.isBlank() ? "" : schema + ".";
+    }
+
+    /**
+     * PostgreSQL refuses {@code CREATE INDEX CONCURRENTLY} inside a transaction, so the
+     * indexes are skipped with a warning when one is active instead of failing startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void install() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            log.warn("Job search indexes are built concurrently and cannot run inside a transaction; skipped");
+            return;
+        }
+        if (!isPostgres()) {
+            return;
+        }
+        execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        indexes().forEach((name, definition) -> {
+            // a concurrent build that failed leaves an invalid index that IF NOT EXISTS would keep
+            List<Boolean> valid = jdbc.queryForList("SELECT indisvalid FROM pg_index WHERE indexrelid = to_regclass(?)",
+                    Boolean.class, schema + name);
+            if (!valid.isEmpty() && !valid.get(0)) {
+                execute("DROP INDEX CONCURRENTLY IF EXISTS " + schema + name);
+            }
+            execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name + " ON " + schema + definition);
+        });
+    }
+
+    private void execute(String ddl) {
+        try {
+            jdbc.execute(ddl);
+        } catch (RuntimeException e) {
+            log.warn("Could not create job search index ({}): {}", ddl, e.getMessage());
+        }
+    }
+
+    private static Map<String, String> indexes() {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        indexes.put("idx_job_posts_location_posted_date_id", "job_posts (LOWER(location), posted_date, id)");
+        indexes.put("idx_job_posts_status_location_posted_date_id",
+                "job_posts (status, LOWER(location), posted_date, id)");
+        indexes.put("idx_job_posts_title_trgm", "job_posts USING gin (LOWER(title) gin_trgm_ops)");
+        indexes.put("idx_job_posts_description_trgm", "job_posts USING gin (LOWER(description) gin_trgm_ops)");
+        indexes.put("idx_companies_name_trgm", "companies USING gin (LOWER(name) gin_trgm_ops)");
+        return indexes;
+    }
+
+    private boolean isPostgres() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(jdbc.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not determine the database product: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.luminary.portal.config;
+
+import com.luminary.portal.entity.JobPost;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Job ids used to come from an identity column. After the switch to a pooled sequence,
+ * moves the sequence past the highest existing id so the first allocated block cannot
+ * collide with rows written before the switch. A no-op once the sequence is ahead.
+ */
+@Slf4j
+@Component
+public class JobSequenceAligner {
+    private final JdbcTemplate jdbc;
+    private final String schema;
+
+    public JobSequenceAligner(DataSource dataSource,
+                              @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.schema = schema.isBlank() ? "" : schema + ".";
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void align() {
+        String sequence = schema + JobPost.ID_SEQUENCE;
+        try {
+            Long maxId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + schema + "job_posts", Long.class);
+            Long lastValue = jdbc.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+            if (maxId != null && lastValue != null && lastValue <= maxId) {
+                long target = maxId + JobPost.ID_ALLOCATION_SIZE;
+                jdbc.queryForObject("SELECT setval('" + sequence + "', ?)", Long.class, target);
+                log.info("Moved {} from {} to {} past existing job ids", sequence, lastValue, target);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not align {}: {}", sequence, e.getMessage());
+        }
+    }
+}
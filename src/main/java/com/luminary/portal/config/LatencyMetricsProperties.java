@@ -0,0 +1,23 @@
+package com.luminary.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.metrics.latency")
+@Getter
+@Setter
+public class LatencyMetricsProperties {
+    private boolean enabled = true;
+    /** Span of the sliding-window view. */
+    private Duration window = Duration.ofMinutes(1);
+    /**
+     * Slices the window is kept in; the oldest slice is dropped as a whole, so the
+     * window view covers between (slices - 1) / slices and all of {@link #window}.
+     */
+    private int windowSlices = 6;
+}
@@ -12,4 +12,6 @@ import org.springframework.context.annotation.Configuration;
 public class PaginationProperties {
     private int defaultPage;
     private int defaultSize;
+    /** In ESTIMATED totals mode, result sets estimated below this size are counted exactly. */
+    private long exactCountThreshold = 10000;
 }
@@ -0,0 +1,30 @@
+package com.luminary.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.auth.password-hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+    /**
+     * Hashing threads; 0 means half the available processors, so BCrypt can never take
+     * every core away from request handling.
+     */
+    private int poolSize = 0;
+    /**
+     * Hash requests allowed to wait for a thread before new ones are rejected with 503.
+     */
+    private int queueCapacity = 64;
+    private Duration retryAfter = Duration.ofSeconds(2);
+    private int bcryptStrength = 10;
+
+    public int resolvedPoolSize() {
+        return poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
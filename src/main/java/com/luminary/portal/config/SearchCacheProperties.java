@@ -0,0 +1,22 @@
+package com.luminary.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.search.cache")
+@Getter
+@Setter
+public class SearchCacheProperties {
+    private boolean enabled = true;
+    private long maxSize = 2000;
+    /**
+     * Job writes invalidate through the data version; the TTL only bounds how long
+     * counts can lag writes made on other instances.
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+}
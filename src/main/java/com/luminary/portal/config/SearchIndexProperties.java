@@ -0,0 +1,20 @@
+package com.luminary.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.search.index")
+@Getter
+@Setter
+public class SearchIndexProperties {
+    private boolean enabled = true;
+    /**
+     * Keyword matches above this size fall back to the LIKE query; kept well below
+     * the driver's bind-parameter limit once IN-clause padding is applied.
+     */
+    private int maxCandidates = 10000;
+    private int loadBatchSize = 5000;
+}
@@ -0,0 +1,20 @@
+package com.luminary.portal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.sql-stats")
+@Getter
+@Setter
+public class SqlStatsProperties {
+    /**
+     * Wraps the DataSource to count statements, rows and execution time per request.
+     * Read once at startup.
+     */
+    private boolean enabled = true;
+    /** Adds the per-request totals as an {@code X-SQL-Stats} response header; meant for debugging. */
+    private boolean responseHeader = false;
+}
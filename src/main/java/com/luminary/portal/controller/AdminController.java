@@ -1,14 +1,182 @@
 package com.luminary.portal.controller;
 
+import com.luminary.portal.entity.enums.ApplicationStatus;
+import com.luminary.portal.entity.enums.JobStatus;
+import com.luminary.portal.filter.AccessLogFilter;
+import com.luminary.portal.filter.ConnectionAdmissionFilter;
+import com.luminary.portal.security.PasswordHashingStats;
+import com.luminary.portal.security.PooledPasswordEncoder;
+import com.luminary.portal.security.PrincipalCache;
+import com.luminary.portal.service.CarrierPinningMonitor;
+import com.luminary.portal.service.ExportService;
+import com.luminary.portal.service.JobSnapshotCache;
+import com.luminary.portal.service.JobStatusCounters;
+import com.luminary.portal.service.intake.ApplicationIntakeQueue;
+import com.luminary.portal.service.metrics.EndpointLatencyRegistry;
+import com.luminary.portal.service.metrics.SqlStatsRegistry;
+import com.luminary.portal.service.search.JobFragmentCache;
+import com.luminary.portal.service.search.JobSearchCache;
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.Map;
 
 @Tag(name = "Admin APIs", description = "Endpoints available only to administrators for managing system data")
 @RestController
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
-    // future admin endpoints
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final JobStatusCounters jobStatusCounters;
+    private final PrincipalCache principalCache;
+    private final PooledPasswordEncoder passwordEncoder;
+    private final ConnectionAdmissionFilter admissionFilter;
+    private final AccessLogFilter accessLogFilter;
+    private final EndpointLatencyRegistry latencyRegistry;
+    private final SqlStatsRegistry sqlStats;
+    private final CarrierPinningMonitor pinningMonitor;
+    private final ExportService exportService;
+    private final ApplicationIntakeQueue intakeQueue;
+    private final JobSnapshotCache jobSnapshots;
+    private final JobSearchCache searchCache;
+    private final JobFragmentCache jobFragments;
+
+    @Operation(summary = "Job counts per status (Admin only)")
+    @GetMapping("/jobs/status-counts")
+    public ResponseEntity<Map<JobStatus, Long>> getJobStatusCounts() {
+        return ResponseEntity.ok(jobStatusCounters.snapshot());
+    }
+
+    @Operation(summary = "Job snapshot cache hits, misses and evictions (Admin only)")
+    @GetMapping("/jobs/cache-stats")
+    public ResponseEntity<Map<String, Object>> getJobCacheStats() {
+        return ResponseEntity.ok(jobSnapshots.stats());
+    }
+
+    @Operation(summary = "Serialized job fragment cache hits and misses (Admin only)")
+    @GetMapping("/jobs/fragment-stats")
+    public ResponseEntity<Map<String, Object>> getJobFragmentStats() {
+        return ResponseEntity.ok(jobFragments.stats());
+    }
+
+    @Operation(summary = "Search result cache hit ratio and hit/miss latency (Admin only)")
+    @GetMapping("/search/cache-stats")
+    public ResponseEntity<Map<String, Object>> getSearchCacheStats() {
+        return ResponseEntity.ok(searchCache.stats());
+    }
+
+    @Operation(summary = "Export job posts as NDJSON (Admin only)")
+    @GetMapping(value = "/export/jobs", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportJobs(
+            @RequestParam(required = false) JobStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return ndjson("jobs", gzip, out -> exportService.exportJobs(status, from, to, gzip, out));
+    }
+
+    @Operation(summary = "Export applications as NDJSON (Admin only)")
+    @GetMapping(value = "/export/applications", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @RequestParam(required = false) Long jobId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return ndjson("applications", gzip, out -> exportService.exportApplications(jobId, status, from, to, gzip, out));
+    }
+
+    @Operation(summary = "Password hashing pool queue wait and hash time (Admin only)")
+    @GetMapping("/password-hashing/stats")
+    public ResponseEntity<PasswordHashingStats> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordEncoder.stats());
+    }
+
+    @Operation(summary = "Request admission permits and rejections (Admin only)")
+    @GetMapping("/threads/admission")
+    public ResponseEntity<Map<String, Object>> getAdmissionStats() {
+        return ResponseEntity.ok(admissionFilter.stats());
+    }
+
+    @Operation(summary = "Virtual thread pinning events by code site (Admin only)")
+    @GetMapping("/threads/pinning")
+    public ResponseEntity<Map<String, Long>> getPinningSites() {
+        return ResponseEntity.ok(pinningMonitor.snapshot());
+    }
+
+    @Operation(summary = "Latency percentiles and throughput per endpoint and status class (Admin only)",
+            description = "view=window covers the sliding window, view=total everything since start")
+    @GetMapping("/metrics/latency")
+    public ResponseEntity<Map<String, Object>> getEndpointLatency(
+            @RequestParam(defaultValue = "WINDOW") EndpointLatencyRegistry.View view) {
+        return ResponseEntity.ok(latencyRegistry.report(view));
+    }
+
+    @Operation(summary = "Endpoint latency in Prometheus text format (Admin only)")
+    @GetMapping(value = "/metrics/latency/prometheus", produces = "text/plain;version=0.0.4;charset=utf-8")
+    public ResponseEntity<String> getEndpointLatencyPrometheus() {
+        return ResponseEntity.ok(latencyRegistry.prometheus());
+    }
+
+    @Operation(summary = "SQL statements, rows and time per request, by endpoint (Admin only)")
+    @GetMapping("/metrics/sql")
+    public ResponseEntity<Map<String, Object>> getSqlStats() {
+        return ResponseEntity.ok(sqlStats.report());
+    }
+
+    @Operation(summary = "Reset the per-endpoint SQL totals (Admin only)")
+    @DeleteMapping("/metrics/sql")
+    public ResponseEntity<Void> resetSqlStats() {
+        sqlStats.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Access log records written, sampled out and dropped (Admin only)")
+    @GetMapping("/access-log/stats")
+    public ResponseEntity<Map<String, Object>> getAccessLogStats() {
+        return ResponseEntity.ok(accessLogFilter.stats());
+    }
+
+    @Operation(summary = "Application intake queue depth and outcomes (Admin only)")
+    @GetMapping("/intake/stats")
+    public ResponseEntity<Map<String, Object>> getIntakeStats() {
+        return ResponseEntity.ok(intakeQueue.stats());
+    }
+
+    @Operation(summary = "Drop cached principals, for one user or all (Admin only)")
+    @DeleteMapping("/principal-cache")
+    public ResponseEntity<Void> invalidatePrincipalCache(@RequestParam(required = false) String email) {
+        if (email != null) {
+            principalCache.invalidate(email);
+        } else {
+            principalCache.invalidateAll();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    private static ResponseEntity<StreamingResponseBody> ndjson(String name, boolean gzip, StreamingResponseBody body) {
+        var response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + (gzip ? ".ndjson.gz\"" : ".ndjson\""));
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
 }
@@ -3,20 +3,26 @@ package com.luminary.portal.controller;
 import com.luminary.portal.config.PaginationProperties;
 import com.luminary.portal.dto.ApplicationResponse;
 import com.luminary.portal.dto.ApplicationSearchRequest;
+import com.luminary.portal.dto.ApplicationStatusUpdateRequest;
+import com.luminary.portal.dto.ApplicationStatusUpdateResponse;
 import com.luminary.portal.dto.ApplyRequest;
+import com.luminary.portal.dto.IntakeStatusResponse;
 import com.luminary.portal.dto.PagedResponse;
-import com.luminary.portal.entity.User;
+import com.luminary.portal.security.AuthenticatedUser;
 import com.luminary.portal.service.ApplicationService;
+import com.luminary.portal.service.intake.ApplicationIntakeQueue;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,24 +34,43 @@ import java.util.List;
 public class ApplicationController {
     private final ApplicationService applicationService;
     private final PaginationProperties paginationProps;
+    private final ApplicationIntakeQueue intakeQueue;
 
-    @Operation(summary = "Apply to a job (Job Seeker only)")
+    @Operation(summary = "Apply to a job (Job Seeker only)",
+            description = "Returns 201 with the application, or 202 with a provisional id when intake mode is on")
     @PostMapping("/apply")
     @PreAuthorize("hasRole('JOB_SEEKER')")
-    public ResponseEntity<ApplicationResponse> applyToJob(
+    public ResponseEntity<?> applyToJob(
             @Valid @RequestBody ApplyRequest applyRequest,
-            @AuthenticationPrincipal User currentUser
+            @AuthenticationPrincipal AuthenticatedUser currentUser
             ) {
-        log.info("Received job application request");
+        log.debug("Received job application request");
+
+        if(intakeQueue.isEnabled()) {
+            IntakeStatusResponse receipt = applicationService.submitApplication(applyRequest, currentUser);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(receipt);
+        }
 
         ApplicationResponse applicationResponse = applicationService.applyToJob(applyRequest, currentUser);
 
-        log.info("Job application processed successfully with ID: {}", applicationResponse.getId());
+        log.debug("Job application processed successfully with ID: {}", applicationResponse.getId());
 
         return ResponseEntity.status(HttpStatus.CREATED).body(applicationResponse);
     }
 
-    @Operation(summary = "View all applications (Admin only)")
+    @Operation(summary = "Check whether a queued application has been saved (Job Seeker)")
+    @GetMapping("/intake/{provisionalId}")
+    @PreAuthorize("hasRole('JOB_SEEKER')")
+    public ResponseEntity<IntakeStatusResponse> getIntakeStatus(
+            @PathVariable String provisionalId,
+            @AuthenticationPrincipal AuthenticatedUser currentUser
+    ) {
+        return ResponseEntity.ok(applicationService.getIntakeStatus(provisionalId, currentUser));
+    }
+
+    @Operation(summary = "View all applications (Admin only)", deprecated = true,
+            description = "Loads every application into one response; use GET /api/admin/export/applications instead")
+    @Deprecated
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<ApplicationResponse>> getAllApplications() {
@@ -55,13 +80,13 @@ public class ApplicationController {
 
     @Operation(summary = "Search applicants for a job (Employer/Admin)")
     @PostMapping("/job/{jobId}/search")
-    @PreAuthorize("hasRole('EMPLOYER', 'ADMIN')")
+    @PreAuthorize("hasAnyRole('EMPLOYER', 'ADMIN')")
     public ResponseEntity<PagedResponse<ApplicationResponse>> searchApplicationsForJob(
             @PathVariable Long jobId,
-            @AuthenticationPrincipal User currentUser,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
             @RequestBody(required = false) ApplicationSearchRequest searchRequest
     ) {
-        log.info("Received search request for applications for job ID: {}", jobId);
+        log.debug("Received search request for applications for job ID: {}", jobId);
 
         if(searchRequest == null) {
             searchRequest = new ApplicationSearchRequest();
@@ -76,18 +101,42 @@ public class ApplicationController {
         return ResponseEntity.ok(result);
     }
 
+    @Operation(summary = "Move many applications of a job to a new status (Employer)")
+    @PatchMapping("/job/{jobId}/status")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<ApplicationStatusUpdateResponse> updateApplicationStatuses(
+            @PathVariable Long jobId,
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @Valid @RequestBody ApplicationStatusUpdateRequest updateRequest
+    ) {
+        log.debug("Received bulk status update to {} for job ID: {}", updateRequest.getStatus(), jobId);
+
+        ApplicationStatusUpdateResponse result = applicationService.updateStatuses(jobId, currentUser, updateRequest);
+
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "View my applications (Job Seeker)")
     @GetMapping("/my-applications")
     @PreAuthorize("hasRole('JOB_SEEKER')")
     public ResponseEntity<List<ApplicationResponse>> getMyApplications(
-            @AuthenticationPrincipal User currentUser
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            WebRequest webRequest
     ) {
-        log.info("Received request to fetch applications for user: {}", currentUser.getUsername());
+        String etag = applicationService.applicationsEtag(currentUser);
+        if(webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        log.debug("Received request to fetch applications for user: {}", currentUser.getUsername());
 
         List<ApplicationResponse> applicationResponseList = applicationService.getApplicationsForApplicant(currentUser);
 
-        log.info("Fetched {} applications for user: {}", applicationResponseList.size(), currentUser.getUsername());
+        log.debug("Fetched {} applications for user: {}", applicationResponseList.size(), currentUser.getUsername());
 
-        return ResponseEntity.ok(applicationResponseList);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(applicationResponseList);
     }
 }
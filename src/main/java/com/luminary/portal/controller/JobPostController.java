@@ -1,24 +1,34 @@
 package com.luminary.portal.controller;
 
+import com.luminary.portal.dto.job.BulkJobResponse;
 import com.luminary.portal.dto.job.JobPostRequest;
 import com.luminary.portal.dto.job.JobPostResponse;
 import com.luminary.portal.dto.job.JobSearchRequest;
 import com.luminary.portal.dto.job.JobSearchResponse;
-import com.luminary.portal.entity.User;
+import com.luminary.portal.dto.search.PaginationMode;
+import com.luminary.portal.dto.search.TotalsMode;
 import com.luminary.portal.entity.enums.JobStatus;
+import com.luminary.portal.security.AuthenticatedUser;
+import com.luminary.portal.service.JobBulkImportService;
 import com.luminary.portal.service.JobPostService;
+import com.luminary.portal.service.search.JobSearchKey;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Tag(name = "Job Management", description = "APIs for managing and searching job posts")
@@ -27,7 +37,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JobPostController {
     private final JobPostService jobService;
+    private final JobBulkImportService bulkImportService;
 
+    @Operation(summary = "List all jobs (Admin only)", deprecated = true,
+            description = "Loads every job into one response; use GET /api/admin/export/jobs instead")
+    @Deprecated
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<JobPostResponse>> getAllJobs() {
@@ -35,6 +49,60 @@ public class JobPostController {
         return ResponseEntity.ok(jobs);
     }
 
+    @Operation(summary = "Search jobs (cacheable)",
+            description = "GET form of POST /api/jobs/search; responses carry a strong ETag and If-None-Match returns 304")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Jobs fetched successfully"),
+            @ApiResponse(responseCode = "304", description = "Results unchanged since the given ETag"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('EMPLOYER', 'JOB_SEEKER', 'ADMIN')")
+    public ResponseEntity<JobSearchResponse> searchJobsByQuery(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String companyName,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(required = false) PaginationMode mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) TotalsMode totals,
+            WebRequest webRequest
+    ) {
+        var jobSearchRequest = new JobSearchRequest();
+        jobSearchRequest.getFilter().setKeyword(keyword);
+        jobSearchRequest.getFilter().setLocation(location);
+        jobSearchRequest.getFilter().setStatus(status);
+        jobSearchRequest.getFilter().setCompanyName(companyName);
+        jobSearchRequest.getPagination().setPage(page);
+        jobSearchRequest.getPagination().setSize(size);
+        jobSearchRequest.getPagination().setMode(mode);
+        jobSearchRequest.getPagination().setCursor(cursor);
+        jobSearchRequest.getPagination().setTotalsMode(totals);
+        if(sortBy != null) {
+            jobSearchRequest.getSort().setBy(sortBy);
+        }
+        if(sortDir != null) {
+            jobSearchRequest.getSort().setDirection(sortDir);
+        }
+
+        JobSearchKey key = jobService.searchKey(jobSearchRequest);
+        String etag = jobService.searchEtag(key);
+        if(webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        var result = jobService.searchJobs(key);
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(result);
+    }
+
     @Operation(summary = "Search jobs", description = "Search jobs with filters, pagination, and sorting (Employer/Job Seeker/Admin)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Jobs fetched successfully"),
@@ -61,16 +129,28 @@ public class JobPostController {
     @PostMapping
     @PreAuthorize("hasRole('EMPLOYER')")
     public ResponseEntity<JobPostResponse> createJob(@Valid @RequestBody JobPostRequest jobPostRequest,
-                                                     @AuthenticationPrincipal User currentUser) {
+                                                     @AuthenticationPrincipal AuthenticatedUser currentUser) {
         JobPostResponse jobCreated = jobService.createJob(jobPostRequest, currentUser);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(jobCreated);
     }
 
+    @Operation(summary = "Create many job posts in one request (Employer only)",
+            description = "Body is a JSON array of job posts; each item is validated and reported on individually")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<BulkJobResponse> createJobs(InputStream requestBody,
+                                                      @AuthenticationPrincipal AuthenticatedUser currentUser) throws IOException {
+        BulkJobResponse result = bulkImportService.importJobs(requestBody, currentUser);
+
+        HttpStatus status = result.getCreated() == result.getReceived() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(result);
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('EMPLOYER', 'ADMIN')")
     public ResponseEntity<?> deleteJob(@PathVariable Long id,
-                                       @AuthenticationPrincipal User currentUser) {
+                                       @AuthenticationPrincipal AuthenticatedUser currentUser) {
         jobService.deleteJob(id, currentUser);
         return ResponseEntity.noContent().build();
     }
@@ -81,7 +161,7 @@ public class JobPostController {
     public ResponseEntity<JobPostResponse> updateJobStatus(
             @PathVariable Long id,
             @RequestParam JobStatus status,
-            @AuthenticationPrincipal User currentUser) {
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
 
         JobPostResponse updated = jobService.updateJobStatus(id, status, currentUser);
         return ResponseEntity.ok(updated);
@@ -1,11 +1,16 @@
 package com.luminary.portal.dto;
 
+import com.luminary.portal.dto.search.PaginationMode;
+import com.luminary.portal.dto.search.TotalsMode;
 import lombok.Data;
 
 @Data
 public class ApplicationSearchRequest {
     private Integer page;
     private Integer size;
+    private PaginationMode mode;
+    private String cursor;
+    private TotalsMode totalsMode;
     private String status;
     private String sortBy = "appliedAt";
     private String sortDir = "desc";
@@ -0,0 +1,23 @@
+package com.luminary.portal.dto;
+
+import com.luminary.portal.entity.enums.ApplicationStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Moves applications of one job to {@code status}: either the listed ids, or every
+ * application currently in {@code currentStatus} when no ids are given.
+ */
+@Data
+public class ApplicationStatusUpdateRequest {
+    @Size(max = 10000, message = "At most 10000 application ids per request")
+    private List<Long> applicationIds;
+
+    private ApplicationStatus currentStatus;
+
+    @NotNull(message = "Target status is required")
+    private ApplicationStatus status;
+}
@@ -0,0 +1,18 @@
+package com.luminary.portal.dto;
+
+import com.luminary.portal.entity.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationStatusUpdateResponse {
+    private Long jobId;
+    private ApplicationStatus status;
+    private Integer requested;
+    private int updated;
+}
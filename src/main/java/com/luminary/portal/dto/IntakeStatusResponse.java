@@ -0,0 +1,19 @@
+package com.luminary.portal.dto;
+
+import com.luminary.portal.service.intake.IntakeState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IntakeStatusResponse {
+    private String provisionalId;
+    private Long jobId;
+    private IntakeState state;
+    private Long applicationId;
+    private String detail;
+}
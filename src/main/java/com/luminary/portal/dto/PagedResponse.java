@@ -1,5 +1,6 @@
 package com.luminary.portal.dto;
 
+import com.luminary.portal.dto.search.TotalsMode;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,7 +14,12 @@ import java.util.List;
 @Builder
 public class PagedResponse<T> {
     private List<T> content;
-    private int currentPage;
-    private long totalItems;
-    private int totalPages;
+    /** Null in cursor mode, where pages are addressed by {@link #nextCursor}. */
+    private Integer currentPage;
+    private Long totalItems;
+    private Integer totalPages;
+    /** How {@link #totalItems} was produced; {@code NONE} when no total was computed. */
+    private TotalsMode totalsMode;
+    private boolean hasNext;
+    private String nextCursor;
 }
@@ -0,0 +1,21 @@
+package com.luminary.portal.dto.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkItemResult {
+    public enum Outcome { CREATED, INVALID, FAILED }
+
+    private int index;
+    private Outcome outcome;
+    private Long id;
+    private List<String> errors;
+}
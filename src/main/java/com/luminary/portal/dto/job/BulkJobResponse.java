@@ -0,0 +1,22 @@
+package com.luminary.portal.dto.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkJobResponse {
+    private int received;
+    private int created;
+    private int rejected;
+    /** Elements past the configured limit, counted in {@code rejected} but not listed in {@code items}. */
+    private int skipped;
+    private long durationMs;
+    private List<BulkItemResult> items;
+}
@@ -0,0 +1,28 @@
+package com.luminary.portal.dto.job;
+
+import com.luminary.portal.entity.enums.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * List-view representation of a job post. Leaves out the description so search pages
+ * can be read in a single projection query.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class JobPostSummary {
+    private Long id;
+    private String title;
+    private String location;
+    private Double salary;
+    private JobStatus status;
+    private String companyName;
+    private String postedBy;
+    private LocalDateTime postedDate;
+}
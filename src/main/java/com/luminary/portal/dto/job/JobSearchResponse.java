@@ -13,7 +13,7 @@ import java.util.Map;
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobSearchResponse {
-    private PagedResponse<JobPostResponse> results;
+    private PagedResponse<JobPostSummary> results;
     private long totalActiveJobs;
     private Map<String, Object> appliedFilters;
 }
@@ -0,0 +1,6 @@
+package com.luminary.portal.dto.search;
+
+public enum PaginationMode {
+    OFFSET,
+    CURSOR
+}
@@ -6,4 +6,7 @@ import lombok.Data;
 public class PaginationRequest {
     private Integer page;
     private Integer size;
+    private PaginationMode mode;
+    private String cursor;
+    private TotalsMode totalsMode;
 }
@@ -4,6 +4,6 @@ import lombok.Data;
 
 @Data
 public class SortRequest {
-    private String by = "createdAt";
+    private String by = "postedDate";
     private String direction = "desc";
 }
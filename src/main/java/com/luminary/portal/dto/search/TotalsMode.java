@@ -0,0 +1,7 @@
+package com.luminary.portal.dto.search;
+
+public enum TotalsMode {
+    EXACT,
+    ESTIMATED,
+    NONE
+}
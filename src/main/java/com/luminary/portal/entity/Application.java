@@ -6,22 +6,27 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        @Index(name = "idx_applications_job_applied_at_id", columnList = "job_id, applied_at, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = Application.JOB_APPLICANT_CONSTRAINT, columnNames = {"job_id", "applicant_id"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Application {
+    public static final String JOB_APPLICANT_CONSTRAINT = "uk_applications_job_applicant";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "job_id", referencedColumnName = "id")
     private JobPost job;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "applicant_id", referencedColumnName = "id")
     private User applicant;
 
@@ -26,7 +26,7 @@ public class Company {
 
     private String location;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", referencedColumnName = "id")
     @JsonIgnore
     private User owner;
@@ -8,15 +8,21 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "job_posts")
+@Table(name = "job_posts", indexes = {
+        @Index(name = "idx_job_posts_posted_date_id", columnList = "posted_date, id"),
+        @Index(name = "idx_job_posts_status_posted_date_id", columnList = "status, posted_date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class JobPost {
+    public static final String ID_SEQUENCE = "job_posts_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -29,11 +35,11 @@ public class JobPost {
 
     private Double salary;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", referencedColumnName = "id")
     private Company company;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "posted_by", referencedColumnName = "id")
     private User postedBy;
 
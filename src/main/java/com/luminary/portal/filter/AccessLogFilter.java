@@ -0,0 +1,170 @@
+package com.luminary.portal.filter;
+
+import com.luminary.portal.config.AccessLogProperties;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One structured access-log line per request. The request thread only measures the request
+ * and drops a small record into a lock-free ring; a single writer thread formats the records
+ * and hands them to the {@code access} logger, which logback routes to an async appender.
+ * Errors and slow requests are always logged, fast successful ones are sampled.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+    private static final Logger accessLog = LoggerFactory.getLogger("access");
+    private static final String START_ATTRIBUTE = AccessLogFilter.class.getName() + ".start";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private final AccessLogProperties props;
+    private final AccessLogRing<AccessRecord> ring;
+    private final long slowThresholdNanos;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final LongAdder logged = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    record AccessRecord(long epochMillis, String method, String path, int status, long durationNanos,
+                        String client, boolean sampled) {
+    }
+
+    public AccessLogFilter(AccessLogProperties props) {
+        this.props = props;
+        this.ring = new AccessLogRing<>(props.getBufferSize());
+        this.slowThresholdNanos = props.getSlowThreshold().toNanos();
+        this.writer = new Thread(this::drain, "access-log-writer");
+        this.writer.setDaemon(true);
+        if (props.isEnabled()) {
+            writer.start();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !props.isEnabled();
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // streamed exports finish on an async dispatch; log them once, when they complete
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws IOException, ServletException {
+        // an async dispatch carries on the timing started by the original request
+        long start = request.getAttribute(START_ATTRIBUTE) instanceof Long started ? started : System.nanoTime();
+        request.setAttribute(START_ATTRIBUTE, start);
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!request.isAsyncStarted()) {
+                // an exception escaping the chain becomes a 500 once the container handles it
+                int status = failed && !response.isCommitted() ? 500 : response.getStatus();
+                record(request, status, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int status, long durationNanos) {
+        boolean always = status >= 400 || durationNanos >= slowThresholdNanos;
+        boolean sampled = !always && props.getSuccessSampleRate() < 1.0;
+        if (sampled && ThreadLocalRandom.current().nextDouble() >= props.getSuccessSampleRate()) {
+            sampledOut.increment();
+            return;
+        }
+
+        AccessRecord accessRecord = new AccessRecord(System.currentTimeMillis(), request.getMethod(),
+                request.getRequestURI(), status, durationNanos, request.getRemoteAddr(), sampled);
+        if (!ring.offer(accessRecord)) {
+            dropped.increment();
+        }
+    }
+
+    private void drain() {
+        StringBuilder line = new StringBuilder(160);
+        while (true) {
+            AccessRecord accessRecord = ring.poll();
+            if (accessRecord != null) {
+                write(accessRecord, line);
+            } else if (running) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void write(AccessRecord accessRecord, StringBuilder line) {
+        line.setLength(0);
+        line.append("ts=").append(Instant.ofEpochMilli(accessRecord.epochMillis()))
+                .append(" method=").append(accessRecord.method())
+                .append(" path=").append(accessRecord.path())
+                .append(" status=").append(accessRecord.status())
+                .append(" duration_ms=").append(accessRecord.durationNanos() / 1_000_000.0)
+                .append(" client=").append(accessRecord.client());
+        if (accessRecord.sampled()) {
+            line.append(" sample_rate=").append(props.getSuccessSampleRate());
+        }
+        try {
+            accessLog.info(line.toString());
+            logged.increment();
+        } catch (RuntimeException e) {
+            log.debug("Access log write failed: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", props.isEnabled());
+        stats.put("successSampleRate", props.getSuccessSampleRate());
+        stats.put("slowThresholdMs", props.getSlowThreshold().toMillis());
+        stats.put("bufferSize", ring.capacity());
+        stats.put("logged", logged.sum());
+        stats.put("sampledOut", sampledOut.sum());
+        stats.put("dropped", dropped.sum());
+        return stats;
+    }
+
+    /**
+     * Tomcat also calls this on the filter instance and rejects lifecycle methods that
+     * declare checked exceptions, so interruption is handled here.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
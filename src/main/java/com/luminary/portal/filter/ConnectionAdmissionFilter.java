@@ -0,0 +1,172 @@
+package com.luminary.portal.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luminary.portal.config.AdmissionProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps concurrent API requests at the size of the connection pool. With virtual threads
+ * every request gets its own thread, so without this they would all park inside Hikari's
+ * getConnection and time out there instead of being turned away early with a 503.
+ */
+@Slf4j
+@Component
+public class ConnectionAdmissionFilter extends OncePerRequestFilter {
+    private final AdmissionProperties props;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+    private final int permitCount;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    public ConnectionAdmissionFilter(AdmissionProperties props, DataSource dataSource, ObjectMapper objectMapper) {
+        this.props = props;
+        this.objectMapper = objectMapper;
+        this.permitCount = props.getPermits() > 0 ? props.getPermits() : poolSize(dataSource);
+        this.permits = new Semaphore(permitCount, true);
+        if (props.isEnabled()) {
+            log.info("Request admission enabled with {} permits", permitCount);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !props.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(props.getAcquireTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        waitNanos.add(System.nanoTime() - start);
+
+        if (!acquired) {
+            rejected.increment();
+            reject(response);
+            return;
+        }
+
+        admitted.increment();
+        Runnable release = releaseOnce();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new PermitReleasingListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long admittedCount = admitted.sum();
+        long rejectedCount = rejected.sum();
+        long attempts = admittedCount + rejectedCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", props.isEnabled());
+        stats.put("permits", permitCount);
+        stats.put("available", permits.availablePermits());
+        stats.put("waiting", permits.getQueueLength());
+        stats.put("admitted", admittedCount);
+        stats.put("rejected", rejectedCount);
+        stats.put("avgWaitMillis", attempts == 0 ? 0 : waitNanos.sum() / 1_000_000.0 / attempts);
+        return stats;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        Map<String, Object> body = Map.of(
+                "timestamp", LocalDateTime.now().toString(),
+                "status", status.value(),
+                "error", status.getReasonPhrase(),
+                "message", "Service busy",
+                "details", "No database capacity available, please retry shortly"
+        );
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, props.getRetryAfter().toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private Runnable releaseOnce() {
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.debug("Could not read connection pool size: {}", e.getMessage());
+        }
+        return 10;
+    }
+
+    /**
+     * Streaming exports keep their connection after the request thread returns, so an async
+     * request holds its permit until the async dispatch finishes, errors or times out.
+     */
+    private record PermitReleasingListener(Runnable release) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
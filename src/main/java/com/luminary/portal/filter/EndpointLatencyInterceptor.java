@@ -0,0 +1,57 @@
+package com.luminary.portal.filter;
+
+import com.luminary.portal.service.metrics.EndpointLatencyRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Times every {@code @RestController} method from handler lookup to completion and
+ * records it under the matched route pattern, so path variables do not split an endpoint.
+ * Requests turned away by servlet filters (authentication, admission) never reach a
+ * handler and are not counted here.
+ */
+@Component
+@RequiredArgsConstructor
+public class EndpointLatencyInterceptor implements HandlerInterceptor {
+    private static final String START_ATTRIBUTE = EndpointLatencyInterceptor.class.getName() + ".start";
+
+    private final EndpointLatencyRegistry registry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // async dispatches come through again; keep the time of the original request
+        if (registry.isEnabled() && request.getAttribute(START_ATTRIBUTE) == null && isRestHandler(handler)) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        long duration = System.nanoTime() - start;
+
+        HandlerMethod method = (HandlerMethod) handler;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        String handlerName = method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        int status = ex != null && response.getStatus() < 400 ? HttpStatus.INTERNAL_SERVER_ERROR.value() : response.getStatus();
+
+        registry.record(endpoint, handlerName, status, duration);
+    }
+
+    private static boolean isRestHandler(Object handler) {
+        return handler instanceof HandlerMethod method
+                && AnnotatedElementUtils.hasAnnotation(method.getBeanType(), RestController.class);
+    }
+}
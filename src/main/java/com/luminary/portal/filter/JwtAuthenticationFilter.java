@@ -1,25 +1,32 @@
 package com.luminary.portal.filter;
 
+import com.luminary.portal.config.AuthProperties;
+import com.luminary.portal.security.AuthenticatedUser;
+import com.luminary.portal.security.PrincipalCache;
 import com.luminary.portal.service.JwtService;
+import com.luminary.portal.service.VerifiedToken;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final AuthProperties authProps;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -27,23 +34,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain)
             throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userName;
 
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")
+                || SecurityContextHolder.getContext().getAuthentication() != null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(7);
-        userName = jwtService.extractUsername(jwt);
+        final VerifiedToken token;
+        try {
+            token = jwtService.verify(authHeader.substring(7));
+        } catch (JwtException e) {
+            log.debug("Rejected bearer token: {}", e.getMessage());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AuthenticatedUser principal = authProps.isStatelessPrincipal() ? AuthenticatedUser.fromToken(token) : null;
+        if (principal == null && token.subject() != null) {
+            principal = principalCache.get(token.subject());
+        }
 
-        if (userName != null && jwtService.isTokenValid(jwt, userName)
-                && SecurityContextHolder.getContext().getAuthentication() == null) {
-            var userDetails = userDetailsService.loadUserByUsername(userName);
-            var authToken = new UsernamePasswordAuthenticationToken(userDetails,
+        if (principal != null) {
+            var authToken = new UsernamePasswordAuthenticationToken(principal,
                     null,
-                    userDetails.getAuthorities());
+                    principal.getAuthorities());
             authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authToken);
         }
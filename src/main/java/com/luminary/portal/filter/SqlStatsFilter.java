@@ -0,0 +1,52 @@
+package com.luminary.portal.filter;
+
+import com.luminary.portal.config.SqlStatsProperties;
+import com.luminary.portal.service.metrics.SqlStatementCounter;
+import com.luminary.portal.service.metrics.SqlStatsRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link SqlStatementCounter} scope for each API request and adds its totals to
+ * the endpoint's entry in {@link SqlStatsRegistry}. Work handed to other threads, such as
+ * the body of a streamed export, is not attributed to the request.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class SqlStatsFilter extends OncePerRequestFilter {
+    private final SqlStatsProperties props;
+    private final SqlStatsRegistry registry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !props.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws IOException, ServletException {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                if (pattern != null) {
+                    registry.record(request.getMethod() + " " + pattern, scope.stats());
+                }
+            }
+        }
+    }
+}
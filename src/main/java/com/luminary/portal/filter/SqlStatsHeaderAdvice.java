@@ -0,0 +1,40 @@
+package com.luminary.portal.filter;
+
+import com.luminary.portal.config.SqlStatsProperties;
+import com.luminary.portal.service.metrics.SqlStatementCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the request's SQL totals as {@code X-SQL-Stats} just before the body is written,
+ * when the handler's queries have all run but the headers can still be changed.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class SqlStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+    public static final String HEADER = "X-SQL-Stats";
+
+    private final SqlStatsProperties props;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return props.isEnabled() && props.isResponseHeader();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementCounter.Stats stats = SqlStatementCounter.current();
+        if (stats != null) {
+            response.getHeaders().set(HEADER, stats.toHeaderValue());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,7 @@
+package com.luminary.portal.repository;
+
+public interface ApplicationPairView {
+    Long getId();
+    Long getJobId();
+    Long getApplicantId();
+}
@@ -1,16 +1,78 @@
 package com.luminary.portal.repository;
 
+import com.luminary.portal.dto.ApplicationResponse;
 import com.luminary.portal.entity.Application;
 import com.luminary.portal.entity.enums.ApplicationStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
-    Page<Application> findByJobId(Long jobId, Pageable pageable);
-    Page<Application> findByJobIdAndStatus(Long jobId, ApplicationStatus status, Pageable pageable);
-    List<Application> findByApplicantId(Long applicantId);
-    boolean existsByJobIdAndApplicantId(Long jobId, Long applicantId);
+    @Query("""
+    SELECT new com.luminary.portal.dto.ApplicationResponse(a.id, j.id, ap.id, j.title, ap.name,
+        a.resumeUrl, a.status, a.appliedAt)
+    FROM Application a JOIN a.job j JOIN a.applicant ap
+    WHERE j.id = :jobId
+    AND (:status IS NULL OR a.status = :status)
+""")
+    Slice<ApplicationResponse> findResponsesByJobId(@Param("jobId") Long jobId,
+                                                    @Param("status") ApplicationStatus status,
+                                                    Pageable pageable);
+
+    long countByJobId(Long jobId);
+    long countByJobIdAndStatus(Long jobId, ApplicationStatus status);
+
+    @Query("""
+    SELECT new com.luminary.portal.dto.ApplicationResponse(a.id, j.id, ap.id, j.title, ap.name,
+        a.resumeUrl, a.status, a.appliedAt)
+    FROM Application a JOIN a.job j JOIN a.applicant ap
+    WHERE ap.id = :applicantId
+    ORDER BY a.appliedAt DESC
+""")
+    List<ApplicationResponse> findResponsesByApplicantId(@Param("applicantId") Long applicantId);
+
+    @Query("""
+    SELECT new com.luminary.portal.dto.ApplicationResponse(a.id, j.id, ap.id, j.title, ap.name,
+        a.resumeUrl, a.status, a.appliedAt)
+    FROM Application a JOIN a.job j JOIN a.applicant ap
+    ORDER BY a.appliedAt DESC
+""")
+    List<ApplicationResponse> findAllForListing();
+
+    // the derived query joins job_posts and users to compare their ids; the foreign keys alone use the unique index
+    @Query("""
+    SELECT COUNT(a) > 0 FROM Application a
+    WHERE a.job.id = :jobId AND a.applicant.id = :applicantId
+""")
+    boolean existsByJobIdAndApplicantId(@Param("jobId") Long jobId, @Param("applicantId") Long applicantId);
+
+    @Query("""
+    SELECT a.id AS id, a.job.id AS jobId, a.applicant.id AS applicantId
+    FROM Application a WHERE a.id > :afterId ORDER BY a.id
+""")
+    List<ApplicationPairView> findPairsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+    UPDATE Application a SET a.status = :status
+    WHERE a.id IN :ids
+    AND a.job.id = :jobId
+    AND (:currentStatus IS NULL OR a.status = :currentStatus)
+""")
+    int updateStatusByIds(@Param("jobId") Long jobId,
+                          @Param("ids") Collection<Long> ids,
+                          @Param("currentStatus") ApplicationStatus currentStatus,
+                          @Param("status") ApplicationStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Application a SET a.status = :status WHERE a.job.id = :jobId AND a.status = :currentStatus")
+    int updateStatusByJob(@Param("jobId") Long jobId,
+                          @Param("currentStatus") ApplicationStatus currentStatus,
+                          @Param("status") ApplicationStatus status);
 }
@@ -0,0 +1,101 @@
+package com.luminary.portal.repository;
+
+import com.luminary.portal.dto.ApplicationResponse;
+import com.luminary.portal.entity.enums.ApplicationStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keyset pages of a job's applicants in {@code (applied_at, id)} order. The position is a
+ * row-value comparison and the first page has its own statement, so PostgreSQL starts an
+ * index range scan on {@code idx_applications_job_applied_at_id} right at the position and
+ * a deep page costs the same as the first one.
+ */
+@Repository
+public class ApplicationSeekRepository {
+    private static final RowMapper<ApplicationResponse> RESPONSE = (rs, rowNum) -> {
+        String status = rs.getString("status");
+        Timestamp appliedAt = rs.getTimestamp("applied_at");
+        return ApplicationResponse.builder()
+                .id(rs.getLong("id"))
+                .jobId(rs.getLong("job_id"))
+                .applicantId(rs.getLong("applicant_id"))
+                .jobTitle(rs.getString("job_title"))
+                .applicantName(rs.getString("applicant_name"))
+                .resumeUrl(rs.getString("resume_url"))
+                .status(status != null ? ApplicationStatus.valueOf(status) : null)
+                .appliedAt(appliedAt != null ? appliedAt.toLocalDateTime() : null)
+                .build();
+    };
+
+    record Shape(boolean status, boolean next, boolean descending) {
+    }
+
+    record Statement(String sql, Object[] args) {
+    }
+
+    private final JdbcTemplate jdbc;
+    private final String schema;
+    private final Map<Shape, String> compiled = new ConcurrentHashMap<>();
+
+    public ApplicationSeekRepository(DataSource dataSource,
+                                     @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.schema = schema.isBlank() ? "" : schema + ".";
+    }
+
+    /**
+     * Up to {@code limit} applications for the job that come after the given position;
+     * a {@code null} {@code lastId} starts from the beginning.
+     */
+    public List<ApplicationResponse> seek(Long jobId, ApplicationStatus status, boolean descending,
+                                          LocalDateTime lastAppliedAt, Long lastId, int limit) {
+        Statement statement = seekStatement(jobId, status, descending, lastAppliedAt, lastId, limit);
+        return jdbc.query(statement.sql(), RESPONSE, statement.args());
+    }
+
+    Statement seekStatement(Long jobId, ApplicationStatus status, boolean descending,
+                            LocalDateTime lastAppliedAt, Long lastId, int limit) {
+        List<Object> args = new ArrayList<>();
+        args.add(jobId);
+        if (status != null) {
+            args.add(status.name());
+        }
+        if (lastId != null) {
+            args.add(Timestamp.valueOf(lastAppliedAt));
+            args.add(lastId);
+        }
+        args.add(limit);
+        Shape shape = new Shape(status != null, lastId != null, descending);
+        return new Statement(compiled.computeIfAbsent(shape, this::compile), args.toArray());
+    }
+
+    private String compile(Shape shape) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT a.id, a.job_id, a.applicant_id, j.title AS job_title, ap.name AS applicant_name,
+                       a.resume_url, a.status, a.applied_at
+                FROM %1$sapplications a
+                JOIN %1$sjob_posts j ON j.id = a.job_id
+                JOIN %1$susers ap ON ap.id = a.applicant_id
+                WHERE a.job_id = ?""".formatted(schema));
+        if (shape.status()) {
+            sql.append(" AND a.status = ?");
+        }
+        if (shape.next()) {
+            sql.append(shape.descending() ? " AND (a.applied_at, a.id) < (?, ?)" : " AND (a.applied_at, a.id) > (?, ?)");
+        }
+        String direction = shape.descending() ? " DESC" : " ASC";
+        sql.append(" ORDER BY a.applied_at").append(direction).append(", a.id").append(direction).append(" LIMIT ?");
+        return sql.toString();
+    }
+}
@@ -0,0 +1,123 @@
+package com.luminary.portal.repository;
+
+import com.luminary.portal.dto.ApplicationResponse;
+import com.luminary.portal.dto.job.JobPostResponse;
+import com.luminary.portal.entity.enums.ApplicationStatus;
+import com.luminary.portal.entity.enums.JobStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Forward-only reads for the admin exports. Rows are handed to the consumer one at a time
+ * while the driver pulls them in batches of {@code app.export.fetch-size}; callers must run
+ * inside a read-only transaction so PostgreSQL keeps a server-side cursor open.
+ */
+@Repository
+public class ExportRepository {
+    private final JdbcTemplate jdbc;
+    private final String schema;
+
+    public ExportRepository(DataSource dataSource,
+                            @Value("${app.export.fetch-size:500}") int fetchSize,
+                            @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(fetchSize);
+        this.schema = schema.isBlank() ? "" : schema + ".";
+    }
+
+    public void streamJobs(JobStatus status, LocalDateTime from, LocalDateTime to, Consumer<JobPostResponse> consumer) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT jp.id, jp.title, jp.description, jp.location, jp.salary, jp.status,
+                       c.name AS company_name, u.name AS posted_by, jp.posted_date
+                FROM %1$sjob_posts jp
+                LEFT JOIN %1$scompanies c ON c.id = jp.company_id
+                LEFT JOIN %1$susers u ON u.id = jp.posted_by
+                WHERE 1 = 1""".formatted(schema));
+        List<Object> args = new ArrayList<>();
+
+        if (status != null) {
+            sql.append(" AND jp.status = ?");
+            args.add(status.name());
+        }
+        appendRange(sql, args, "jp.posted_date", from, to);
+        sql.append(" ORDER BY jp.id");
+
+        jdbc.query(sql.toString(), (RowCallbackHandler) rs -> consumer.accept(JobPostResponse.builder()
+                .id(rs.getLong("id"))
+                .title(rs.getString("title"))
+                .description(rs.getString("description"))
+                .location(rs.getString("location"))
+                .salary(nullableDouble(rs, "salary"))
+                .status(rs.getString("status") != null ? JobStatus.valueOf(rs.getString("status")) : null)
+                .companyName(rs.getString("company_name"))
+                .postedBy(rs.getString("posted_by"))
+                .postedDate(toLocalDateTime(rs.getTimestamp("posted_date")))
+                .build()), args.toArray());
+    }
+
+    public void streamApplications(Long jobId, ApplicationStatus status, LocalDateTime from, LocalDateTime to,
+                                   Consumer<ApplicationResponse> consumer) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT a.id, a.job_id, a.applicant_id, j.title AS job_title, u.name AS applicant_name,
+                       a.resume_url, a.status, a.applied_at
+                FROM %1$sapplications a
+                JOIN %1$sjob_posts j ON j.id = a.job_id
+                JOIN %1$susers u ON u.id = a.applicant_id
+                WHERE 1 = 1""".formatted(schema));
+        List<Object> args = new ArrayList<>();
+
+        if (jobId != null) {
+            sql.append(" AND a.job_id = ?");
+            args.add(jobId);
+        }
+        if (status != null) {
+            sql.append(" AND a.status = ?");
+            args.add(status.name());
+        }
+        appendRange(sql, args, "a.applied_at", from, to);
+        sql.append(" ORDER BY a.id");
+
+        jdbc.query(sql.toString(), (RowCallbackHandler) rs -> consumer.accept(ApplicationResponse.builder()
+                .id(rs.getLong("id"))
+                .jobId(rs.getLong("job_id"))
+                .applicantId(rs.getLong("applicant_id"))
+                .jobTitle(rs.getString("job_title"))
+                .applicantName(rs.getString("applicant_name"))
+                .resumeUrl(rs.getString("resume_url"))
+                .status(rs.getString("status") != null ? ApplicationStatus.valueOf(rs.getString("status")) : null)
+                .appliedAt(toLocalDateTime(rs.getTimestamp("applied_at")))
+                .build()), args.toArray());
+    }
+
+    private static void appendRange(StringBuilder sql, List<Object> args, String column,
+                                    LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            sql.append(" AND ").append(column).append(" >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND ").append(column).append(" < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+    }
+
+    private static Double nullableDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -1,27 +1,38 @@
 package com.luminary.portal.repository;
 
+import com.luminary.portal.dto.job.JobPostResponse;
 import com.luminary.portal.entity.JobPost;
 import com.luminary.portal.entity.enums.JobStatus;
-import org.springframework.data.domain.Page;
+import com.luminary.portal.service.JobSnapshot;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface JobPostRepository extends JpaRepository<JobPost, Long> {
     @Query("""
-    SELECT jp FROM JobPost jp
-    WHERE (:keyword IS NULL OR LOWER(jp.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
-        OR LOWER(jp.description) LIKE LOWER(CONCAT('%', :keyword, '%')))
-    AND (:location IS NULL OR LOWER(jp.location) = LOWER(:location))
-    AND (:status IS NULL OR jp.status = :status)
-    AND (:companyName IS NULL OR LOWER(jp.company.name) LIKE LOWER(CONCAT('%', :companyName, '%')))
+    SELECT new com.luminary.portal.dto.job.JobPostResponse(jp.id, jp.title, jp.description, jp.location,
+        jp.salary, jp.status, c.name, u.name, jp.postedDate)
+    FROM JobPost jp LEFT JOIN jp.company c LEFT JOIN jp.postedBy u
+    ORDER BY jp.postedDate DESC
 """)
-    Page<JobPost> findByFilters(@Param("keyword") String keyword,
-                                @Param("location") String location,
-                                @Param("status") JobStatus status,
-                                @Param("companyName") String companyName,
-                                Pageable pageable);
+    List<JobPostResponse> findAllForListing();
+
+    @Query("SELECT jp.id AS id, jp.title AS title, jp.description AS description FROM JobPost jp WHERE jp.id > :afterId ORDER BY jp.id")
+    List<JobTextView> findTextAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+    SELECT new com.luminary.portal.service.JobSnapshot(jp.id, jp.title, jp.status, jp.company.id, jp.postedBy.id)
+    FROM JobPost jp WHERE jp.id = :id
+""")
+    Optional<JobSnapshot> findSnapshotById(@Param("id") Long id);
+
     long countByStatus(JobStatus status);
 
+    @Query("SELECT jp.status AS status, COUNT(jp) AS total FROM JobPost jp GROUP BY jp.status")
+    List<JobStatusCount> countGroupedByStatus();
+
 }
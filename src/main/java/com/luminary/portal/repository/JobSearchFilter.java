@@ -0,0 +1,19 @@
+package com.luminary.portal.repository;
+
+import com.luminary.portal.entity.enums.JobStatus;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The filters of one job search; {@code null} means the filter is absent. A job matches
+ * {@code keywordTerms} when every term occurs in its title or description, the same rule
+ * the keyword index applies. {@code ids} restricts the search to keyword-index candidates
+ * and replaces the keyword predicate; it must not be empty.
+ */
+public record JobSearchFilter(List<String> keywordTerms,
+                              Collection<Long> ids,
+                              String location,
+                              JobStatus status,
+                              String companyName) {
+}
@@ -0,0 +1,284 @@
+package com.luminary.portal.repository;
+
+import com.luminary.portal.dto.job.JobPostSummary;
+import com.luminary.portal.entity.enums.JobStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Job search compiled to SQL that carries only the filters a request actually uses, so the
+ * planner sees plain predicates it can match against the search indexes instead of
+ * {@code :param IS NULL OR ...} guards. Statements are compiled once per filter shape and
+ * reused; id lists are padded to the next power of two to keep the number of shapes small.
+ * <p>
+ * Keyword terms match where a word of the title or description starts, the way the keyword
+ * index matches term prefixes, so a search returns the same jobs whether or not the index
+ * has been built. The pattern is a regular expression; its word-separator class is chosen
+ * for the database, since PostgreSQL and H2 spell character classes differently.
+ */
+@Repository
+public class JobSearchRepository {
+    private static final RowMapper<JobPostSummary> SUMMARY = JobSearchRepository::toSummary;
+
+    enum Kind { PAGE, SEEK_FIRST, SEEK_NEXT, COUNT, ESTIMATE }
+
+    /**
+     * Which predicates a statement contains; everything that changes the SQL text, nothing
+     * that only changes a bound value.
+     */
+    record Shape(Kind kind, int keywordTerms, int idSlots, boolean location, boolean status, boolean company,
+                 JobSortField sort, boolean descending) {
+    }
+
+    record Statement(String sql, Object[] args) {
+    }
+
+    private final JdbcTemplate jdbc;
+    private final String schema;
+    private final String wordStart;
+    private final Map<Shape, String> compiled = new ConcurrentHashMap<>();
+
+    public JobSearchRepository(DataSource dataSource,
+                               @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.schema = schema.isBlank() ? "" : schema + ".";
+        this.wordStart = isH2(dataSource) ? "(^|[^\\p{L}\\p{Nd}])" : "(^|[^[:alnum:]])";
+    }
+
+    public Slice<JobPostSummary> findPage(JobSearchFilter filter, JobSortField sort, boolean descending,
+                                          int page, int size) {
+        Statement statement = pageStatement(filter, sort, descending, page, size);
+        List<JobPostSummary> rows = jdbc.query(statement.sql(), SUMMARY, statement.args());
+        boolean hasNext = rows.size() > size;
+        Sort order = Sort.by(descending ? Sort.Direction.DESC : Sort.Direction.ASC, sort.key());
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.of(page, size, order), hasNext);
+    }
+
+    public long count(JobSearchFilter filter) {
+        Statement statement = countStatement(filter);
+        Long total = jdbc.queryForObject(statement.sql(), Long.class, statement.args());
+        return total != null ? total : 0;
+    }
+
+    /**
+     * Up to {@code limit} jobs in posted-date order that come after the given position;
+     * a {@code null} {@code lastId} starts from the beginning.
+     */
+    public List<JobPostSummary> seek(JobSearchFilter filter, boolean descending,
+                                     LocalDateTime lastPostedDate, Long lastId, int limit) {
+        Statement statement = seekStatement(filter, descending, lastPostedDate, lastId, limit);
+        return jdbc.query(statement.sql(), SUMMARY, statement.args());
+    }
+
+    /**
+     * Number of distinct statements compiled so far.
+     */
+    int compiledShapes() {
+        return compiled.size();
+    }
+
+    Statement pageStatement(JobSearchFilter filter, JobSortField sort, boolean descending, int page, int size) {
+        List<Object> args = new ArrayList<>();
+        Shape shape = bind(filter, Kind.PAGE, sort, descending, args);
+        args.add(size + 1);
+        args.add((long) page * size);
+        return new Statement(compiled.computeIfAbsent(shape, this::compile), args.toArray());
+    }
+
+    Statement countStatement(JobSearchFilter filter) {
+        List<Object> args = new ArrayList<>();
+        Shape shape = bind(filter, Kind.COUNT, JobSortField.ID, false, args);
+        return new Statement(compiled.computeIfAbsent(shape, this::compile), args.toArray());
+    }
+
+    /**
+     * The rows a count would see, without aggregating them, for the planner to estimate in
+     * {@link RowCountEstimator}.
+     */
+    Statement estimateStatement(JobSearchFilter filter) {
+        List<Object> args = new ArrayList<>();
+        Shape shape = bind(filter, Kind.ESTIMATE, JobSortField.ID, false, args);
+        return new Statement(compiled.computeIfAbsent(shape, this::compile), args.toArray());
+    }
+
+    Statement seekStatement(JobSearchFilter filter, boolean descending,
+                            LocalDateTime lastPostedDate, Long lastId, int limit) {
+        List<Object> args = new ArrayList<>();
+        Kind kind = lastId != null ? Kind.SEEK_NEXT : Kind.SEEK_FIRST;
+        Shape shape = bind(filter, kind, JobSortField.POSTED_DATE, descending, args);
+        if (kind == Kind.SEEK_NEXT) {
+            args.add(Timestamp.valueOf(lastPostedDate));
+            args.add(lastId);
+        }
+        args.add(limit);
+        return new Statement(compiled.computeIfAbsent(shape, this::compile), args.toArray());
+    }
+
+    /**
+     * Collects the filter values in predicate order and returns the shape they fit.
+     */
+    private Shape bind(JobSearchFilter filter, Kind kind, JobSortField sort, boolean descending,
+                       List<Object> args) {
+        int keywordTerms = filter.keywordTerms() != null ? filter.keywordTerms().size() : 0;
+        for (int i = 0; i < keywordTerms; i++) {
+            String pattern = wordStartPattern(filter.keywordTerms().get(i));
+            args.add(pattern);
+            args.add(pattern);
+        }
+        int idSlots = 0;
+        if (filter.ids() != null) {
+            if (filter.ids().isEmpty()) {
+                throw new IllegalArgumentException("An id-restricted job search needs at least one id");
+            }
+            idSlots = padded(filter.ids().size());
+            addPadded(args, filter.ids(), idSlots);
+        }
+        if (filter.location() != null) {
+            args.add(filter.location().toLowerCase(Locale.ROOT));
+        }
+        if (filter.status() != null) {
+            args.add(filter.status().name());
+        }
+        if (filter.companyName() != null) {
+            args.add(containsPattern(filter.companyName()));
+        }
+        return new Shape(kind, keywordTerms, idSlots, filter.location() != null,
+                filter.status() != null, filter.companyName() != null, sort, descending);
+    }
+
+    private String compile(Shape shape) {
+        StringBuilder sql = new StringBuilder();
+        boolean counting = shape.kind() == Kind.COUNT || shape.kind() == Kind.ESTIMATE;
+        if (counting) {
+            sql.append(shape.kind() == Kind.COUNT ? "SELECT COUNT(*)" : "SELECT 1")
+                    .append(" FROM ").append(schema).append("job_posts jp");
+            if (shape.company()) {
+                sql.append(" JOIN ").append(schema).append("companies c ON c.id = jp.company_id");
+            }
+        } else {
+            sql.append("""
+                    SELECT jp.id, jp.title, jp.location, jp.salary, jp.status,
+                           c.name AS company_name, u.name AS posted_by, jp.posted_date
+                    FROM %1$sjob_posts jp
+                    LEFT JOIN %1$scompanies c ON c.id = jp.company_id
+                    LEFT JOIN %1$susers u ON u.id = jp.posted_by""".formatted(schema));
+        }
+
+        List<String> predicates = new ArrayList<>();
+        for (int i = 0; i < shape.keywordTerms(); i++) {
+            predicates.add("(LOWER(jp.title) ~ ? OR LOWER(jp.description) ~ ?)");
+        }
+        if (shape.idSlots() > 0) {
+            predicates.add("jp.id IN (" + "?, ".repeat(shape.idSlots() - 1) + "?)");
+        }
+        if (shape.location()) {
+            predicates.add("LOWER(jp.location) = ?");
+        }
+        if (shape.status()) {
+            predicates.add("jp.status = ?");
+        }
+        if (shape.company()) {
+            predicates.add("LOWER(c.name) LIKE ? ESCAPE '\\'");
+        }
+        if (shape.kind() == Kind.SEEK_NEXT) {
+            predicates.add(shape.descending() ? "(jp.posted_date, jp.id) < (?, ?)" : "(jp.posted_date, jp.id) > (?, ?)");
+        }
+        if (!predicates.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+
+        if (!counting) {
+            String direction = shape.descending() ? " DESC" : " ASC";
+            sql.append(" ORDER BY ").append(shape.sort().column()).append(direction);
+            if (shape.sort() != JobSortField.ID) {
+                sql.append(", jp.id").append(direction);
+            }
+            sql.append(shape.kind() == Kind.PAGE ? " LIMIT ? OFFSET ?" : " LIMIT ?");
+        }
+        return sql.toString();
+    }
+
+    private static int padded(int size) {
+        return size <= 1 ? size : Integer.highestOneBit(size - 1) << 1;
+    }
+
+    private static void addPadded(List<Object> args, Collection<Long> ids, int slots) {
+        Long last = null;
+        for (Long id : ids) {
+            args.add(id);
+            last = id;
+        }
+        for (int i = ids.size(); i < slots; i++) {
+            args.add(last);
+        }
+    }
+
+    /**
+     * Regular expression for the term at the start of a word; anything but letters and
+     * digits is escaped, which both regex dialects read as the literal character.
+     */
+    private String wordStartPattern(String term) {
+        StringBuilder pattern = new StringBuilder(wordStart);
+        term.toLowerCase(Locale.ROOT).codePoints().forEach(c -> {
+            if (!Character.isLetterOrDigit(c)) {
+                pattern.append('\\');
+            }
+            pattern.appendCodePoint(c);
+        });
+        return pattern.toString();
+    }
+
+    private static boolean isH2(DataSource dataSource) {
+        try {
+            return "H2".equals(JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+        } catch (MetaDataAccessException e) {
+            return false;
+        }
+    }
+
+    private static String containsPattern(String value) {
+        String escaped = value.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static JobPostSummary toSummary(ResultSet rs, int rowNum) throws SQLException {
+        double salary = rs.getDouble("salary");
+        Double nullableSalary = rs.wasNull() ? null : salary;
+        String status = rs.getString("status");
+        Timestamp postedDate = rs.getTimestamp("posted_date");
+        return JobPostSummary.builder()
+                .id(rs.getLong("id"))
+                .title(rs.getString("title"))
+                .location(rs.getString("location"))
+                .salary(nullableSalary)
+                .status(status != null ? JobStatus.valueOf(status) : null)
+                .companyName(rs.getString("company_name"))
+                .postedBy(rs.getString("posted_by"))
+                .postedDate(postedDate != null ? postedDate.toLocalDateTime() : null)
+                .build();
+    }
+}
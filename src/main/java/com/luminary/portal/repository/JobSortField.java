@@ -0,0 +1,45 @@
+package com.luminary.portal.repository;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Sort keys a job search accepts, each mapped to the column it orders by. Anything else is
+ * rejected before it can reach the SQL. Ties are always broken by the job id.
+ */
+public enum JobSortField {
+    POSTED_DATE("postedDate", "jp.posted_date"),
+    TITLE("title", "jp.title"),
+    SALARY("salary", "jp.salary"),
+    LOCATION("location", "jp.location"),
+    ID("id", "jp.id");
+
+    private final String key;
+    private final String column;
+
+    JobSortField(String key, String column) {
+        this.key = key;
+        this.column = column;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    String column() {
+        return column;
+    }
+
+    public static JobSortField from(String key) {
+        if (key == null || key.isBlank()) {
+            return POSTED_DATE;
+        }
+        for (JobSortField field : values()) {
+            if (field.key.equalsIgnoreCase(key.trim())) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Cannot sort jobs by '" + key + "'; expected one of "
+                + Arrays.stream(values()).map(JobSortField::key).collect(Collectors.joining(", ")));
+    }
+}
@@ -0,0 +1,8 @@
+package com.luminary.portal.repository;
+
+import com.luminary.portal.entity.enums.JobStatus;
+
+public interface JobStatusCount {
+    JobStatus getStatus();
+    long getTotal();
+}
@@ -0,0 +1,7 @@
+package com.luminary.portal.repository;
+
+public interface JobTextView {
+    Long getId();
+    String getTitle();
+    String getDescription();
+}
@@ -0,0 +1,75 @@
+package com.luminary.portal.repository;
+
+import com.luminary.portal.entity.enums.ApplicationStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Row-count estimates taken from the query planner ({@code EXPLAIN}) instead of running
+ * {@code COUNT(*)}. Job estimates plan the statement {@link JobSearchRepository} compiles for
+ * the same filter; application estimates mirror the filters of the repository queries.
+ * Returns an empty estimate when the database cannot provide one.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RowCountEstimator {
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    private final EntityManager entityManager;
+    private final JobSearchRepository jobSearchRepo;
+
+    /**
+     * Estimate for the rows {@link JobSearchRepository#count} would count, planned from the
+     * same compiled statement so the two never disagree on which filters apply.
+     */
+    public OptionalLong estimateJobs(JobSearchFilter filter) {
+        JobSearchRepository.Statement statement = jobSearchRepo.estimateStatement(filter);
+        Object[] args = statement.args();
+        return estimate(statement.sql(), query -> {
+            for (int i = 0; i < args.length; i++) {
+                query.setParameter(i + 1, args[i]);
+            }
+        });
+    }
+
+    public OptionalLong estimateApplications(Long jobId, ApplicationStatus status) {
+        StringBuilder sql = new StringBuilder("SELECT 1 FROM {h-schema}applications a WHERE a.job_id = :jobId");
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobId", jobId);
+
+        if (status != null) {
+            sql.append(" AND a.status = :status");
+            params.put("status", status.name());
+        }
+        return estimate(sql.toString(), query -> params.forEach(query::setParameter));
+    }
+
+    private OptionalLong estimate(String sql, Consumer<Query> binder) {
+        try {
+            Query query = entityManager.createNativeQuery("EXPLAIN " + sql);
+            binder.accept(query);
+            List<?> plan = query.getResultList();
+            if (!plan.isEmpty()) {
+                Matcher rows = PLAN_ROWS.matcher(String.valueOf(plan.get(0)));
+                if (rows.find()) {
+                    return OptionalLong.of(Long.parseLong(rows.group(1)));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.debug("Planner row estimate unavailable: {}", e.getMessage());
+        }
+        return OptionalLong.empty();
+    }
+}
@@ -0,0 +1,125 @@
+package com.luminary.portal.repository;
+
+import com.luminary.portal.service.metrics.SqlStatementCounter;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Reports every statement run through the pool, its execution time and the rows it read or
+ * changed to the thread's {@link SqlStatementCounter} scope. Statements created while no scope
+ * is open (startup, background writers, streamed exports) are handed out unwrapped, so they
+ * pay nothing per row.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private static <T> T wrap(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            } else if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result = StatementCountingDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement && SqlStatementCounter.current() != null) {
+                Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                        : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+                return wrap(type, new StatementHandler(statement));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            SqlStatementCounter.Stats stats = SqlStatementCounter.current();
+            if (stats == null) {
+                return StatementCountingDataSource.invoke(target, method, args);
+            }
+
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                Object result = StatementCountingDataSource.invoke(target, method, args);
+                return result instanceof ResultSet resultSet ? countingResultSet(resultSet) : result;
+            }
+
+            long start = System.nanoTime();
+            Object result = StatementCountingDataSource.invoke(target, method, args);
+            stats.statement(System.nanoTime() - start);
+
+            if (result instanceof ResultSet resultSet) {
+                return countingResultSet(resultSet);
+            } else if (result instanceof Integer updated && updated > 0) {
+                stats.rows(updated);
+            } else if (result instanceof Long updated && updated > 0) {
+                stats.rows(updated);
+            } else if (result instanceof int[] batch) {
+                for (int updated : batch) {
+                    stats.rows(Math.max(updated, 0));
+                }
+            } else if (result instanceof long[] batch) {
+                for (long updated : batch) {
+                    stats.rows(Math.max(updated, 0));
+                }
+            }
+            return result;
+        }
+
+        private static ResultSet countingResultSet(ResultSet resultSet) {
+            return wrap(ResultSet.class, new ResultSetHandler(resultSet));
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementCountingDataSource.invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                SqlStatementCounter.Stats stats = SqlStatementCounter.current();
+                if (stats != null) {
+                    stats.rows(1);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.luminary.portal.security;
+
+import com.luminary.portal.entity.User;
+import com.luminary.portal.entity.enums.Role;
+import com.luminary.portal.service.VerifiedToken;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Request principal holding only what authorization checks need. Services load the
+ * {@link User} entity themselves on the few paths that require it.
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final Role role;
+    private final Long companyId;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthenticatedUser(Long id, String email, String name, Role role, Long companyId) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.role = role;
+        this.companyId = companyId;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getName(), user.getRole(),
+                user.getCompany() != null ? user.getCompany().getId() : null);
+    }
+
+    /**
+     * Returns {@code null} for tokens issued before the uid and role claims were added.
+     */
+    public static AuthenticatedUser fromToken(VerifiedToken token) {
+        if (token.userId() == null || token.role() == null) {
+            return null;
+        }
+        return new AuthenticatedUser(token.userId(), token.subject(), token.name(),
+                Role.valueOf(token.role()), token.companyId());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
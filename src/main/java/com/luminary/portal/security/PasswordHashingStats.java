@@ -0,0 +1,13 @@
+package com.luminary.portal.security;
+
+public record PasswordHashingStats(int poolSize,
+                                   int queueCapacity,
+                                   int queueDepth,
+                                   int activeThreads,
+                                   long completed,
+                                   long rejected,
+                                   double avgQueueWaitMillis,
+                                   double maxQueueWaitMillis,
+                                   double avgHashMillis,
+                                   double maxHashMillis) {
+}
@@ -0,0 +1,46 @@
+package com.luminary.portal.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.luminary.portal.config.AuthProperties;
+import com.luminary.portal.repository.UserRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Principals keyed by email for requests whose token does not carry the stateless
+ * claims. Entries are bounded and expire, and can be dropped when a user changes.
+ */
+@Component
+public class PrincipalCache {
+    private final UserRepository userRepo;
+    private final Cache<String, AuthenticatedUser> principals;
+
+    public PrincipalCache(UserRepository userRepo, AuthProperties authProps) {
+        this.userRepo = userRepo;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(authProps.getPrincipalCacheMaxSize())
+                .expireAfterWrite(authProps.getPrincipalCacheTtl())
+                .build();
+    }
+
+    /**
+     * Returns {@code null} when no user has this email.
+     */
+    public AuthenticatedUser get(String email) {
+        return principals.get(email, key -> userRepo.findByEmail(key)
+                .map(AuthenticatedUser::from)
+                .orElse(null));
+    }
+
+    public void invalidate(String email) {
+        principals.invalidate(email);
+    }
+
+    public void invalidateAll() {
+        principals.invalidateAll();
+    }
+
+    public long size() {
+        return principals.estimatedSize();
+    }
+}
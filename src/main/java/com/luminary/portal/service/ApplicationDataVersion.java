@@ -0,0 +1,68 @@
+package com.luminary.portal.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of each applicant's applications, so a listing can be tagged without querying it.
+ * Every change stamps the applicant with the next value of one sequence that never falls
+ * behind the wall clock, so a stamp also tells when the change happened; writes
+ * that touch applicants we cannot name cheaply (bulk status moves) stamp everyone at once.
+ * Applicants dropped from the bounded map fall back to the highest stamp ever evicted, which
+ * keeps each applicant's version from going backwards.
+ */
+@Component
+public class ApplicationDataVersion {
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    private final AtomicLong allApplicants = new AtomicLong(sequence.get());
+    private final AtomicLong evictedFloor = new AtomicLong(sequence.get());
+    private final Cache<Long, Long> applicants;
+
+    public ApplicationDataVersion(@Value("${app.applications.tracked-applicants:100000}") long trackedApplicants) {
+        this.applicants = Caffeine.newBuilder()
+                .maximumSize(trackedApplicants)
+                .evictionListener((Long applicantId, Long stamp, RemovalCause cause) -> {
+                    if (stamp != null) {
+                        evictedFloor.accumulateAndGet(stamp, Math::max);
+                    }
+                })
+                .build();
+    }
+
+    public long current(Long applicantId) {
+        Long stamp = applicants.getIfPresent(applicantId);
+        return Math.max(allApplicants.get(), stamp != null ? stamp : evictedFloor.get());
+    }
+
+    public void bumpAfterCommit(Long applicantId) {
+        afterCommit(() -> applicants.put(applicantId, nextStamp()));
+    }
+
+    public void bumpAllAfterCommit() {
+        afterCommit(() -> allApplicants.accumulateAndGet(nextStamp(), Math::max));
+    }
+
+    private long nextStamp() {
+        return sequence.accumulateAndGet(System.currentTimeMillis(), (previous, now) -> Math.max(previous + 1, now));
+    }
+
+    private static void afterCommit(Runnable bump) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump.run();
+                }
+            });
+        } else {
+            bump.run();
+        }
+    }
+}
@@ -2,87 +2,169 @@ package com.luminary.portal.service;
 
 import com.luminary.portal.dto.ApplicationResponse;
 import com.luminary.portal.dto.ApplicationSearchRequest;
+import com.luminary.portal.dto.ApplicationStatusUpdateRequest;
+import com.luminary.portal.dto.ApplicationStatusUpdateResponse;
 import com.luminary.portal.dto.ApplyRequest;
+import com.luminary.portal.dto.IntakeStatusResponse;
 import com.luminary.portal.dto.PagedResponse;
+import com.luminary.portal.dto.search.PaginationMode;
+import com.luminary.portal.dto.search.TotalsMode;
 import com.luminary.portal.entity.Application;
-import com.luminary.portal.entity.User;
 import com.luminary.portal.entity.enums.ApplicationStatus;
 import com.luminary.portal.entity.enums.Role;
 import com.luminary.portal.exception.DuplicateApplicationException;
 import com.luminary.portal.exception.ResourceNotFoundException;
 import com.luminary.portal.exception.UnauthorizedOperationException;
 import com.luminary.portal.repository.ApplicationRepository;
+import com.luminary.portal.repository.ApplicationSeekRepository;
 import com.luminary.portal.repository.JobPostRepository;
+import com.luminary.portal.repository.RowCountEstimator;
 import com.luminary.portal.repository.UserRepository;
+import com.luminary.portal.security.AuthenticatedUser;
+import com.luminary.portal.service.intake.ApplicationIntakeQueue;
+import com.luminary.portal.service.intake.IntakeState;
+import com.luminary.portal.service.intake.PendingApplication;
+import com.luminary.portal.service.search.KeysetCursor;
+import com.luminary.portal.service.search.PageTotalsResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.function.LongSupplier;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class ApplicationService {
     private final ApplicationRepository appRepo;
+    private final ApplicationSeekRepository applicationSeekRepo;
     private final JobPostRepository jobRepo;
     private final UserRepository userRepo;
+    private final PageTotalsResolver pageTotalsResolver;
+    private final RowCountEstimator rowCountEstimator;
+    private final AppliedPairsFilter appliedPairs;
+    private final ApplicationIntakeQueue intakeQueue;
+    private final JobSnapshotCache jobSnapshots;
+    private final ApplicationDataVersion applicationVersions;
+    private final JobDataVersion jobDataVersion;
+    private final EtagWindow etagWindow;
 
-    public ApplicationResponse applyToJob(ApplyRequest applyRequest, User currentUser) {
+    @Value("${app.applications.bulk-update-chunk-size:1000}")
+    private int bulkUpdateChunkSize;
+
+    public ApplicationResponse applyToJob(ApplyRequest applyRequest, AuthenticatedUser currentUser) {
         if(currentUser.getRole() != Role.JOB_SEEKER) {
             throw new UnauthorizedOperationException("Only job seekers can apply to jobs");
         }
 
         var jobId = applyRequest.getJobId();
-        var job = jobRepo.findById(jobId)
-                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
-
-        log.info("User {} is applying to job {}", currentUser.getUsername(), job.getTitle());
+        var job = jobSnapshots.get(jobId);
 
-        boolean alreadyApplied = appRepo.existsByJobIdAndApplicantId(jobId, currentUser.getId());
+        log.debug("User {} is applying to job {}", currentUser.getUsername(), job.title());
 
-        if(alreadyApplied) {
+        // a negative from the filter is definite, so only possible repeats pay for the query
+        if(appliedPairs.mightContain(jobId, currentUser.getId())
+                && appRepo.existsByJobIdAndApplicantId(jobId, currentUser.getId())) {
             throw new DuplicateApplicationException("You have already applied to this job");
         }
 
         var application = Application.builder()
-                .job(job)
-                .applicant(currentUser)
+                .job(jobRepo.getReferenceById(jobId))
+                .applicant(userRepo.getReferenceById(currentUser.getId()))
                 .resumeUrl(applyRequest.getResumeUrl())
                 .status(ApplicationStatus.APPLIED)
                 .appliedAt(LocalDateTime.now())
                 .build();
 
-        var savedApp = appRepo.save(application);
+        Application savedApp;
+        try {
+            savedApp = appRepo.saveAndFlush(application);
+        } catch(DataIntegrityViolationException e) {
+            if(isConstraintViolation(e, Application.JOB_APPLICANT_CONSTRAINT)) {
+                appliedPairs.add(jobId, currentUser.getId());
+                throw new DuplicateApplicationException("You have already applied to this job");
+            }
+            throw e;
+        }
+        appliedPairs.add(jobId, currentUser.getId());
+        applicationVersions.bumpAfterCommit(currentUser.getId());
 
-        log.info("Application submitted successfully for job {} by user {}", job.getTitle(), currentUser.getUsername());
+        log.debug("Application submitted successfully for job {} by user {}", job.title(), currentUser.getUsername());
 
-        return mapToResponse(savedApp);
+        return ApplicationResponse.builder()
+                .id(savedApp.getId())
+                .jobId(jobId)
+                .applicantId(currentUser.getId())
+                .jobTitle(job.title())
+                .applicantName(currentUser.getName())
+                .resumeUrl(savedApp.getResumeUrl())
+                .status(savedApp.getStatus())
+                .appliedAt(savedApp.getAppliedAt())
+                .build();
+    }
+
+    /**
+     * Intake-mode counterpart of {@link #applyToJob}: runs the same checks, then queues
+     * the application for the background writer and returns its provisional id.
+     */
+    public IntakeStatusResponse submitApplication(ApplyRequest applyRequest, AuthenticatedUser currentUser) {
+        if(currentUser.getRole() != Role.JOB_SEEKER) {
+            throw new UnauthorizedOperationException("Only job seekers can apply to jobs");
+        }
+
+        var jobId = applyRequest.getJobId();
+        jobSnapshots.get(jobId); // throws when the job does not exist
+
+        if(appliedPairs.mightContain(jobId, currentUser.getId())
+                && appRepo.existsByJobIdAndApplicantId(jobId, currentUser.getId())) {
+            throw new DuplicateApplicationException("You have already applied to this job");
+        }
+
+        PendingApplication pending = intakeQueue.submit(jobId, currentUser.getId(), applyRequest.getResumeUrl());
+        log.debug("Application {} for job {} by user {} queued", pending.provisionalId(), jobId, currentUser.getUsername());
+
+        return IntakeStatusResponse.builder()
+                .provisionalId(pending.provisionalId())
+                .jobId(jobId)
+                .state(IntakeState.QUEUED)
+                .build();
+    }
+
+    public IntakeStatusResponse getIntakeStatus(String provisionalId, AuthenticatedUser currentUser) {
+        var status = intakeQueue.status(provisionalId);
+        if(status == null || !status.applicantId().equals(currentUser.getId())) {
+            throw new ResourceNotFoundException("No pending application with id " + provisionalId);
+        }
+        return IntakeStatusResponse.builder()
+                .provisionalId(status.provisionalId())
+                .jobId(status.jobId())
+                .state(status.state())
+                .applicationId(status.applicationId())
+                .detail(status.detail())
+                .build();
     }
 
     public List<ApplicationResponse> getAllApplications() {
-        log.info("Fetching all job applications (admin only)");
-        List<Application> applications = appRepo.findAll(Sort.by("appliedAt").descending());
-        return applications.stream()
-                .map(this::mapToResponse)
-                .toList();
+        log.debug("Fetching all job applications (admin only)");
+        return appRepo.findAllForListing();
     }
 
-    public PagedResponse<ApplicationResponse> searchApplicationsForJob(Long jobId, User currentUser, ApplicationSearchRequest searchRequest) {
-        var job = jobRepo.findById(jobId)
-                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+    public PagedResponse<ApplicationResponse> searchApplicationsForJob(Long jobId, AuthenticatedUser currentUser, ApplicationSearchRequest searchRequest) {
+        var job = jobSnapshots.get(jobId);
 
         if(currentUser.getRole() == Role.EMPLOYER) {
-            if(!job.getPostedBy().getId().equals(currentUser.getId())) {
-                throw new UnauthorizedOperationException("You are not authorized to view applications for this job");
-            }
-            if(!job.getCompany().getId().equals(currentUser.getCompany().getId())) {
+            if(!job.isOwnedBy(currentUser)) {
                 throw new UnauthorizedOperationException("You are not authorized to view applications for this job");
             }
         } else {
@@ -92,62 +174,139 @@ public class ApplicationService {
 
         int page = searchRequest.getPage();
         int size = searchRequest.getSize();
+        boolean descending = !searchRequest.getSortDir().equalsIgnoreCase("asc");
+
+        String status = searchRequest.getStatus();
+        ApplicationStatus appStatus = status != null && !status.isEmpty() ? ApplicationStatus.valueOf(status.toUpperCase()) : null;
+
+        if(searchRequest.getMode() == PaginationMode.CURSOR || searchRequest.getCursor() != null) {
+            return seekApplications(jobId, appStatus, searchRequest.getSortBy(), descending, searchRequest.getCursor(), size);
+        }
 
-        Sort sort =  searchRequest.getSortDir().equalsIgnoreCase("asc") ?
-                Sort.by(searchRequest.getSortBy()).ascending() :
-                Sort.by(searchRequest.getSortBy()).descending();
+        Sort sort = descending ?
+                Sort.by(searchRequest.getSortBy()).descending() :
+                Sort.by(searchRequest.getSortBy()).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Application> appPage;
+        Slice<ApplicationResponse> appSlice = appRepo.findResponsesByJobId(jobId, appStatus, pageable);
+        LongSupplier exactCount = appStatus != null
+                ? () -> appRepo.countByJobIdAndStatus(jobId, appStatus)
+                : () -> appRepo.countByJobId(jobId);
 
-        String status = searchRequest.getStatus();
-        if(status != null && !status.isEmpty()) {
-            ApplicationStatus appStatus = ApplicationStatus.valueOf(status.toUpperCase());
-            appPage = appRepo.findByJobIdAndStatus(jobId, appStatus, pageable);
-        } else {
-            appPage = appRepo.findByJobId(jobId, pageable);
+        List<ApplicationResponse> applications = appSlice.getContent();
+
+        log.debug("Retrieved {} applications for job {}", applications.size(), job.title());
+
+        return pageTotalsResolver.toPagedResponse(appSlice, applications, searchRequest.getTotalsMode(),
+                exactCount, () -> rowCountEstimator.estimateApplications(jobId, appStatus));
+    }
+
+    private PagedResponse<ApplicationResponse> seekApplications(Long jobId, ApplicationStatus status, String sortBy,
+                                                                boolean descending, String cursor, int size) {
+        if(!sortBy.equals("appliedAt")) {
+            throw new IllegalArgumentException("Cursor pagination only supports sorting by appliedAt");
         }
 
-        List<ApplicationResponse> applications = appPage.getContent().stream()
-                .map(this::mapToResponse)
-                .toList();
+        KeysetCursor after = cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor, sortBy, descending) : null;
+        LocalDateTime lastAppliedAt = after != null ? after.value() : null;
+        Long lastId = after != null ? after.id() : null;
 
-        log.info("Retrieved {} applications for job {}", applications.size(), job.getTitle());
+        List<ApplicationResponse> rows = applicationSeekRepo.seek(jobId, status, descending, lastAppliedAt, lastId,
+                size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<ApplicationResponse> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if(hasNext) {
+            ApplicationResponse last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(sortBy, descending, last.getAppliedAt(), last.getId()).encode();
+        }
 
         return PagedResponse.<ApplicationResponse>builder()
-                .content(applications)
-                .currentPage(appPage.getNumber())
-                .totalItems(appPage.getTotalElements())
-                .totalPages(appPage.getTotalPages())
+                .content(page)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalsMode(TotalsMode.NONE)
                 .build();
     }
 
-    public List<ApplicationResponse> getApplicationsForApplicant(User currentUser) {
+    /**
+     * Checks ownership of the job once, then updates in chunks of set-based statements
+     * scoped to that job, so ids belonging to other jobs are never touched.
+     */
+    @Transactional
+    public ApplicationStatusUpdateResponse updateStatuses(Long jobId, AuthenticatedUser currentUser,
+                                                          ApplicationStatusUpdateRequest request) {
+        var job = jobSnapshots.get(jobId);
+
+        if(currentUser.getRole() != Role.EMPLOYER) {
+            throw new UnauthorizedOperationException("Only employers can update applications for jobs");
+        }
+        if(!job.isOwnedBy(currentUser)) {
+            throw new UnauthorizedOperationException("You are not authorized to update applications for this job");
+        }
+
+        List<Long> ids = request.getApplicationIds();
+        ApplicationStatus target = request.getStatus();
+        int updated = 0;
+
+        if(ids != null && !ids.isEmpty()) {
+            List<Long> distinctIds = ids.stream().distinct().toList();
+            for(int from = 0; from < distinctIds.size(); from += bulkUpdateChunkSize) {
+                List<Long> chunk = distinctIds.subList(from, Math.min(from + bulkUpdateChunkSize, distinctIds.size()));
+                updated += appRepo.updateStatusByIds(jobId, chunk, request.getCurrentStatus(), target);
+            }
+        } else if(request.getCurrentStatus() != null) {
+            updated = appRepo.updateStatusByJob(jobId, request.getCurrentStatus(), target);
+        } else {
+            throw new IllegalArgumentException("Provide applicationIds or currentStatus to select applications");
+        }
+
+        if(updated > 0) {
+            applicationVersions.bumpAllAfterCommit();
+        }
+
+        log.info("User {} moved {} applications of job {} to {}", currentUser.getUsername(), updated, jobId, target);
+
+        return ApplicationStatusUpdateResponse.builder()
+                .jobId(jobId)
+                .status(target)
+                .requested(ids != null && !ids.isEmpty() ? ids.size() : null)
+                .updated(updated)
+                .build();
+    }
+
+    /**
+     * Strong entity tag for {@link #getApplicationsForApplicant}, built without a query from the
+     * applicant and an {@link EtagWindow} stamp. The job version is stamped too, because
+     * deleting a job removes its applications.
+     */
+    public String applicationsEtag(AuthenticatedUser currentUser) {
+        return "apps-" + Long.toHexString(currentUser.getId()) + "-"
+                + etagWindow.stamp(applicationVersions.current(currentUser.getId()), jobDataVersion.current());
+    }
+
+    public List<ApplicationResponse> getApplicationsForApplicant(AuthenticatedUser currentUser) {
         if(currentUser.getRole() != Role.JOB_SEEKER) {
             throw new UnauthorizedOperationException("Only job seekers can view their applications");
         }
 
-        log.info("User {} is retrieving their applications", currentUser.getUsername());
+        log.debug("User {} is retrieving their applications", currentUser.getUsername());
 
-        List<Application> applications = appRepo.findByApplicantId(currentUser.getId());
+        List<ApplicationResponse> applications = appRepo.findResponsesByApplicantId(currentUser.getId());
 
-        log.info("Retrieved {} applications for user {}", applications.size(), currentUser.getUsername());
+        log.debug("Retrieved {} applications for user {}", applications.size(), currentUser.getUsername());
 
-        return applications.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return applications;
     }
 
-    private ApplicationResponse mapToResponse(Application application) {
-        return ApplicationResponse.builder()
-                .id(application.getId())
-                .jobId(application.getJob().getId())
-                .applicantId(application.getApplicant().getId())
-                .jobTitle(application.getJob().getTitle())
-                .applicantName(application.getApplicant().getName())
-                .resumeUrl(application.getResumeUrl())
-                .status(application.getStatus())
-                .appliedAt(application.getAppliedAt())
-                .build();
+    private static boolean isConstraintViolation(DataIntegrityViolationException e, String constraintName) {
+        for(Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if(cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(constraintName);
     }
 }
@@ -0,0 +1,134 @@
+package com.luminary.portal.service;
+
+import com.luminary.portal.config.DuplicateFilterProperties;
+import com.luminary.portal.repository.ApplicationPairView;
+import com.luminary.portal.repository.ApplicationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over the (jobId, applicantId) pairs that already have an application.
+ * A negative answer is definite, so {@link ApplicationService#applyToJob} can skip the
+ * existence query for a first-time applicant; a positive answer still goes to the
+ * database. Until the startup load finishes every pair reports "might exist".
+ * <p>
+ * Bits are only ever set, never cleared, so deleted applications leave false positives
+ * behind; they cost one extra query, never a wrongly accepted duplicate, which the
+ * unique constraint rejects anyway.
+ */
+@Slf4j
+@Component
+public class AppliedPairsFilter {
+    private final ApplicationRepository appRepo;
+    private final DuplicateFilterProperties props;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile boolean ready;
+
+    public AppliedPairsFilter(ApplicationRepository appRepo, DuplicateFilterProperties props) {
+        this.appRepo = appRepo;
+        this.props = props;
+
+        long expected = Math.max(1, props.getExpectedApplications());
+        double fpp = props.getFalsePositiveRate();
+        long optimalBits = (long) Math.ceil(-expected * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!props.isEnabled()) {
+            log.info("Applied-pairs filter is disabled");
+            return;
+        }
+        Thread loader = new Thread(this::load, "applied-pairs-filter-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean mightContain(Long jobId, Long applicantId) {
+        if (!ready) {
+            return true;
+        }
+        long hash = mix(jobId, applicantId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void add(Long jobId, Long applicantId) {
+        long hash = mix(jobId, applicantId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    void load() {
+        long started = System.nanoTime();
+        long afterId = 0;
+        long loaded = 0;
+        try {
+            List<ApplicationPairView> batch;
+            do {
+                batch = appRepo.findPairsAfter(afterId, PageRequest.ofSize(props.getLoadBatchSize()));
+                for (ApplicationPairView pair : batch) {
+                    add(pair.getJobId(), pair.getApplicantId());
+                    afterId = pair.getId();
+                }
+                loaded += batch.size();
+            } while (batch.size() == props.getLoadBatchSize());
+
+            ready = true;
+            log.info("Applied-pairs filter loaded {} applications ({} bits, {} hashes) in {} ms",
+                    loaded, bitCount, hashCount, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Failed to load applied-pairs filter; every apply will query for duplicates", e);
+        }
+    }
+
+    /**
+     * 64-bit finalizer from MurmurHash3 over both ids.
+     */
+    private static long mix(Long jobId, Long applicantId) {
+        long h = jobId * 0x9E3779B97F4A7C15L ^ applicantId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -67,7 +68,13 @@ public class AuthService {
     }
 
     private String getToken(User user) {
-        return jwtService.generateToken(Map.of("role", user.getRole(),
-                "name", user.getName()), user.getEmail());
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("uid", user.getId());
+        claims.put("role", user.getRole());
+        claims.put("name", user.getName());
+        if(user.getCompany() != null) {
+            claims.put("cid", user.getCompany().getId());
+        }
+        return jwtService.generateToken(claims, user.getEmail());
     }
 }
@@ -0,0 +1,101 @@
+package com.luminary.portal.service;
+
+import com.luminary.portal.config.AdmissionProperties;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams JFR {@code jdk.VirtualThreadPinned} events while virtual threads are active
+ * (the property set on a Java 21+ runtime) and counts them by the first frame in our own
+ * code, so a {@code synchronized} block or native call that holds a carrier thread shows
+ * up on the admin endpoint.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CarrierPinningMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.luminary.portal.";
+
+    private final AdmissionProperties props;
+    private final Environment environment;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsRequested;
+
+    private final Map<String, LongAdder> pinnedBySite = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            if (virtualThreadsRequested) {
+                log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; "
+                        + "requests run on platform threads (virtual-thread mode needs Java 21+)",
+                        Runtime.version().feature());
+            }
+            return;
+        }
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT)
+                    .withThreshold(props.getPinningThreshold())
+                    .withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::record);
+            recording.startAsync();
+            stream = recording;
+            log.info("Carrier pinning monitor started (threshold {})", props.getPinningThreshold());
+        } catch (RuntimeException e) {
+            log.warn("Carrier pinning monitor unavailable: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        pinnedBySite.forEach((site, count) -> snapshot.put(site, count.sum()));
+        return snapshot;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        String site = pinningSite(event.getStackTrace());
+        pinnedBySite.computeIfAbsent(site, key -> new LongAdder()).increment();
+        log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+    }
+
+    private static String pinningSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        RecordedFrame top = stackTrace.getFrames().get(0);
+        return top.getMethod().getType().getName() + "." + top.getMethod().getName();
+    }
+}
@@ -0,0 +1,42 @@
+package com.luminary.portal.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Time-based part of every entity tag built from {@link JobDataVersion} and
+ * {@link ApplicationDataVersion}. Those versions live in one node's memory, so they cannot
+ * go into a tag every node must agree on. A tag carries the current time window instead,
+ * which retires it after at most {@code app.etag.max-staleness}, so a write served by
+ * another node is picked up by the first poll after that. A version is added only while it
+ * changed within the current window: the node that took the write stops answering 304 at
+ * once, and in quiet windows every node, before and after a restart, issues the same tag.
+ */
+@Component
+public class EtagWindow {
+    private final long windowMillis;
+
+    public EtagWindow(@Value("${app.etag.max-staleness:PT30S}") Duration maxStaleness) {
+        if (maxStaleness.isNegative() || maxStaleness.isZero()) {
+            throw new IllegalArgumentException("app.etag.max-staleness must be positive");
+        }
+        this.windowMillis = maxStaleness.toMillis();
+    }
+
+    /**
+     * The current window, followed by each version that moved within it. Versions are
+     * expected to be at least the wall-clock millisecond of the change that set them.
+     */
+    public String stamp(long... versions) {
+        long window = System.currentTimeMillis() / windowMillis;
+        StringBuilder stamp = new StringBuilder(Long.toHexString(window));
+        for (long version : versions) {
+            if (version / windowMillis >= window) {
+                stamp.append('.').append(Long.toHexString(version));
+            }
+        }
+        return stamp.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package com.luminary.portal.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.luminary.portal.entity.enums.ApplicationStatus;
+import com.luminary.portal.entity.enums.JobStatus;
+import com.luminary.portal.repository.ExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes admin exports as newline-delimited JSON, one row at a time, so memory use does
+ * not depend on how many rows match.
+ */
+@Slf4j
+@Service
+public class ExportService {
+    private static final int GZIP_BUFFER = 64 * 1024;
+
+    private final ExportRepository exportRepo;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public ExportService(ExportRepository exportRepo, ObjectMapper objectMapper) {
+        this.exportRepo = exportRepo;
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportJobs(JobStatus status, LocalDateTime from, LocalDateTime to,
+                           boolean gzip, OutputStream out) throws IOException {
+        return write(out, gzip, rows -> exportRepo.streamJobs(status, from, to, rows::accept));
+    }
+
+    @Transactional(readOnly = true)
+    public long exportApplications(Long jobId, ApplicationStatus status, LocalDateTime from, LocalDateTime to,
+                                   boolean gzip, OutputStream out) throws IOException {
+        return write(out, gzip, rows -> exportRepo.streamApplications(jobId, status, from, to, rows::accept));
+    }
+
+    private long write(OutputStream out, boolean gzip, Consumer<Consumer<Object>> source) throws IOException {
+        long start = System.currentTimeMillis();
+        OutputStream target = gzip ? new GZIPOutputStream(out, GZIP_BUFFER) : out;
+        long[] rows = {0};
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            source.accept(row -> {
+                try {
+                    rowWriter.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        target.flush();
+        log.info("Exported {} rows in {} ms", rows[0], System.currentTimeMillis() - start);
+        return rows[0];
+    }
+}
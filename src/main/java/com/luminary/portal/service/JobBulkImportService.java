@@ -0,0 +1,148 @@
+package com.luminary.portal.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luminary.portal.config.BulkImportProperties;
+import com.luminary.portal.dto.job.BulkItemResult;
+import com.luminary.portal.dto.job.BulkJobResponse;
+import com.luminary.portal.dto.job.JobPostRequest;
+import com.luminary.portal.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads a JSON array of {@link JobPostRequest} one element at a time, validates each, and
+ * hands valid items to {@link JobPostService#createJobBatch} in fixed-size chunks. Only the
+ * current chunk and the per-item results are held in memory. Elements past
+ * {@code max-items} are only counted: they are reported as {@code skipped} and included
+ * in {@code rejected}, since the jobs before them may already be committed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobBulkImportService {
+    private final JobPostService jobService;
+    private final BulkImportProperties props;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    public BulkJobResponse importJobs(InputStream body, AuthenticatedUser user) throws IOException {
+        if(user.getCompanyId() == null) {
+            throw new IllegalStateException("User is not associated with any company");
+        }
+        long start = System.currentTimeMillis();
+        List<BulkItemResult> results = new ArrayList<>();
+        List<JobPostRequest> chunk = new ArrayList<>(props.getBatchSize());
+        List<Integer> chunkIndexes = new ArrayList<>(props.getBatchSize());
+        int received = 0;
+        int skipped = 0;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if(parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Request body must be a JSON array of job posts");
+            }
+            JsonToken token;
+            while((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if(received >= props.getMaxItems()) {
+                    // past the limit: count what is left without binding or keeping it
+                    parser.skipChildren();
+                    received++;
+                    skipped++;
+                    continue;
+                }
+                int index = received++;
+                if(token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    results.add(BulkItemResult.builder()
+                            .index(index)
+                            .outcome(BulkItemResult.Outcome.INVALID)
+                            .errors(List.of("Element must be a JSON object"))
+                            .build());
+                    continue;
+                }
+                JobPostRequest request = objectMapper.readValue(parser, JobPostRequest.class);
+
+                Set<ConstraintViolation<JobPostRequest>> violations = validator.validate(request);
+                if(!violations.isEmpty()) {
+                    results.add(BulkItemResult.builder()
+                            .index(index)
+                            .outcome(BulkItemResult.Outcome.INVALID)
+                            .errors(violations.stream()
+                                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                                    .sorted()
+                                    .toList())
+                            .build());
+                    continue;
+                }
+
+                chunk.add(request);
+                chunkIndexes.add(index);
+                if(chunk.size() >= props.getBatchSize()) {
+                    flush(chunk, chunkIndexes, user, results);
+                }
+            }
+        }
+        flush(chunk, chunkIndexes, user, results);
+
+        results.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        int created = (int) results.stream().filter(r -> r.getOutcome() == BulkItemResult.Outcome.CREATED).count();
+        long duration = System.currentTimeMillis() - start;
+        if(skipped > 0) {
+            log.warn("Bulk import by {}: {} jobs past the limit of {} were not imported", user.getUsername(), skipped,
+                    props.getMaxItems());
+        }
+        log.info("Bulk import by {}: {} received, {} created in {} ms", user.getUsername(), received, created, duration);
+
+        return BulkJobResponse.builder()
+                .received(received)
+                .created(created)
+                .rejected(received - created)
+                .skipped(skipped)
+                .durationMs(duration)
+                .items(results)
+                .build();
+    }
+
+    private void flush(List<JobPostRequest> chunk, List<Integer> indexes, AuthenticatedUser user,
+                       List<BulkItemResult> results) {
+        if(chunk.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> ids = jobService.createJobBatch(chunk, user);
+            for(int i = 0; i < ids.size(); i++) {
+                results.add(BulkItemResult.builder()
+                        .index(indexes.get(i))
+                        .outcome(BulkItemResult.Outcome.CREATED)
+                        .id(ids.get(i))
+                        .build());
+            }
+        } catch(RuntimeException e) {
+            log.warn("Bulk import chunk of {} jobs failed: {}", chunk.size(), e.getMessage());
+            for(Integer index : indexes) {
+                results.add(BulkItemResult.builder()
+                        .index(index)
+                        .outcome(BulkItemResult.Outcome.FAILED)
+                        .errors(List.of("Batch insert failed: " + e.getMessage()))
+                        .build());
+            }
+        } finally {
+            chunk.clear();
+            indexes.clear();
+            // the request-scoped persistence context would otherwise keep every inserted job
+            entityManager.clear();
+        }
+    }
+}
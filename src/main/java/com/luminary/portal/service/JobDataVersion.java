@@ -0,0 +1,44 @@
+package com.luminary.portal.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version of the job data, bumped by every job write in {@link JobPostService}.
+ * Anything derived from job rows can tag itself with the version it was built from and be
+ * treated as stale once the version moves on. Every bump moves it to at least the current
+ * wall-clock millisecond, so versions keep increasing across restarts and
+ * {@link EtagWindow} can tell whether the last write falls in its current window.
+ */
+@Component
+public class JobDataVersion {
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return version.get();
+    }
+
+    public long bump() {
+        return version.accumulateAndGet(System.currentTimeMillis(), (previous, now) -> Math.max(previous + 1, now));
+    }
+
+    /**
+     * Bumps once the surrounding transaction commits, so a reader cannot pick up the new
+     * version while still seeing the old rows; bumps immediately outside a transaction.
+     */
+    public void bumpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump();
+                }
+            });
+        } else {
+            bump();
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.luminary.portal.service;
 
 import com.luminary.portal.config.PaginationProperties;
+import com.luminary.portal.config.SearchIndexProperties;
 import com.luminary.portal.dto.job.*;
 import com.luminary.portal.dto.PagedResponse;
 import com.luminary.portal.dto.search.PaginationRequest;
 import com.luminary.portal.dto.search.SortRequest;
+import com.luminary.portal.dto.search.TotalsMode;
 import com.luminary.portal.entity.Company;
 import com.luminary.portal.entity.JobPost;
 import com.luminary.portal.entity.User;
@@ -12,38 +14,77 @@ import com.luminary.portal.entity.enums.JobStatus;
 import com.luminary.portal.entity.enums.Role;
 import com.luminary.portal.exception.ResourceNotFoundException;
 import com.luminary.portal.exception.UnauthorizedOperationException;
+import com.luminary.portal.repository.CompanyRepository;
 import com.luminary.portal.repository.JobPostRepository;
+import com.luminary.portal.repository.JobSearchFilter;
+import com.luminary.portal.repository.JobSearchRepository;
+import com.luminary.portal.repository.JobSortField;
+import com.luminary.portal.repository.RowCountEstimator;
+import com.luminary.portal.repository.UserRepository;
+import com.luminary.portal.security.AuthenticatedUser;
+import com.luminary.portal.service.search.JobFragmentCache;
+import com.luminary.portal.service.search.JobKeywordIndex;
+import com.luminary.portal.service.search.JobSearchCache;
+import com.luminary.portal.service.search.JobSearchKey;
+import com.luminary.portal.service.search.KeysetCursor;
+import com.luminary.portal.service.search.PageTotalsResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class JobPostService {
     private final JobPostRepository jobRepo;
+    private final JobSearchRepository jobSearchRepo;
+    private final CompanyRepository companyRepo;
+    private final UserRepository userRepo;
     private final PaginationProperties paginationProps;
+    private final SearchIndexProperties searchIndexProps;
+    private final JobKeywordIndex keywordIndex;
+    private final PageTotalsResolver pageTotalsResolver;
+    private final RowCountEstimator rowCountEstimator;
+    private final JobStatusCounters jobStatusCounters;
+    private final JobSnapshotCache jobSnapshots;
+    private final JobDataVersion jobDataVersion;
+    private final EtagWindow etagWindow;
+    private final JobSearchCache searchCache;
+    private final JobFragmentCache jobFragments;
 
     public List<JobPostResponse> getAllJobs() {
-        log.info("Fetching all jobs (admin only)");
+        log.debug("Fetching all jobs (admin only)");
 
-        List<JobPost> jobs = jobRepo.findAll(Sort.by("postedDate").descending());
-        ;
-
-        return jobs.stream()
-                .map(this::mapToResponse)
-                .toList();
+        return jobRepo.findAllForListing();
     }
 
     public JobSearchResponse searchJobs(JobSearchRequest jobSearchRequest) {
+        return searchJobs(searchKey(jobSearchRequest));
+    }
+
+    public JobSearchResponse searchJobs(JobSearchKey key) {
+        return searchCache.get(key, this::executeSearch);
+    }
+
+    /**
+     * Canonical form of the request against the current job data version. Building it
+     * touches no repository, so callers can derive an ETag from it before searching.
+     */
+    public JobSearchKey searchKey(JobSearchRequest jobSearchRequest) {
         var pagination = jobSearchRequest.getPagination() != null ? jobSearchRequest.getPagination() : new PaginationRequest();
         var sortRequest = jobSearchRequest.getSort() != null ? jobSearchRequest.getSort() : new SortRequest();
         var filter = jobSearchRequest.getFilter() != null ? jobSearchRequest.getFilter() : new JobFilterRequest();
@@ -54,58 +95,137 @@ public class JobPostService {
         pagination.setPage(resolvedPage);
         pagination.setSize(resolvedSize);
 
-        String keyword = filter.getKeyword();
-        String location = filter.getLocation();
-        String status = filter.getStatus();
-        String companyName = filter.getCompanyName();
+        String sortBy = JobSortField.from(sortRequest.getBy()).key();
 
-        String sortBy = sortRequest.getBy() != null ? sortRequest.getBy() : "postedDate";
-        String sortDir = sortRequest.getDirection();
+        return JobSearchKey.of(jobDataVersion.current(), filter.getKeyword(), keywordIndex.isReady(),
+                filter.getLocation(), filter.getStatus(), filter.getCompanyName(), sortBy, sortRequest.getDirection(),
+                resolvedPage, resolvedSize, pagination.getMode(), pagination.getCursor(), pagination.getTotalsMode());
+    }
 
-        Sort sort = sortDir.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
-        Pageable pageable = PageRequest.of(resolvedPage, resolvedSize, sort);
-        Page<JobPost> jobPage;
+    /**
+     * Strong entity tag for the results of {@code key}, valid for the current
+     * {@link EtagWindow} at most.
+     */
+    public String searchEtag(JobSearchKey key) {
+        return key.etag(etagWindow.stamp(key.dataVersion()));
+    }
 
-        if(keyword != null || location != null || status != null || companyName != null) {
-            JobStatus jobStatus = status != null ? JobStatus.valueOf(status.toUpperCase()) : null;
-            jobPage = jobRepo.findByFilters(keyword, location, jobStatus, companyName, pageable);
-        } else {
-            jobPage = jobRepo.findAll(pageable);
+    private JobSearchResponse executeSearch(JobSearchKey key) {
+        String keyword = key.keyword();
+        String location = key.location();
+        JobStatus jobStatus = key.status();
+        String companyName = key.companyName();
+        String sortBy = key.sortBy();
+        boolean descending = key.descending();
+        int resolvedSize = key.size();
+
+        int[] candidates = key.keywordIndexed() ? keywordIndex.search(keyword) : null;
+        if(candidates != null && candidates.length > searchIndexProps.getMaxCandidates()) {
+            candidates = null;
         }
 
-        List<JobPostResponse> jobs = jobPage.getContent()
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        PagedResponse<JobPostSummary> pagedResponse;
+        if(key.cursorMode()) {
+            pagedResponse = seekJobs(keyword, candidates, location, jobStatus, companyName,
+                    sortBy, descending, key.cursor(), resolvedSize);
+        } else {
+            JobSortField sort = JobSortField.from(sortBy);
+            Slice<JobPostSummary> jobSlice;
+            LongSupplier exactCount;
+            Supplier<OptionalLong> estimatedCount;
+
+            if(candidates != null && candidates.length == 0) {
+                Sort order = descending ? Sort.by(sort.key()).descending() : Sort.by(sort.key()).ascending();
+                jobSlice = new SliceImpl<>(List.of(), PageRequest.of(key.page(), resolvedSize, order), false);
+                exactCount = () -> 0;
+                estimatedCount = OptionalLong::empty;
+            } else {
+                List<Long> ids = candidates != null ? toIds(candidates) : null;
+                JobSearchFilter filter = new JobSearchFilter(ids != null ? null : keywordTerms(keyword), ids,
+                        location, jobStatus, companyName);
+                jobSlice = jobSearchRepo.findPage(filter, sort, descending, key.page(), resolvedSize);
+                exactCount = key.hasFilters() ? () -> jobSearchRepo.count(filter) : jobRepo::count;
+                estimatedCount = () -> rowCountEstimator.estimateJobs(filter);
+            }
 
-        var pagedResponse = PagedResponse.<JobPostResponse>builder()
-                .content(jobs)
-                .currentPage(jobPage.getNumber())
-                .totalItems(jobPage.getTotalElements())
-                .totalPages(jobPage.getTotalPages())
-                .build();
+            pagedResponse = pageTotalsResolver.toPagedResponse(jobSlice, jobSlice.getContent(), key.totalsMode(),
+                    exactCount, estimatedCount);
+        }
+
+        long totalActiveJobs = jobStatusCounters.count(JobStatus.OPEN);
 
-        long totalActiveJobs = jobRepo.countByStatus(JobStatus.OPEN);
+        Map<String, Object> appliedFilters = new LinkedHashMap<>();
+        appliedFilters.put("keyword", keyword);
+        appliedFilters.put("location", location);
+        appliedFilters.put("status", jobStatus != null ? jobStatus.name() : null);
+        appliedFilters.put("companyName", companyName);
 
         return JobSearchResponse.builder()
                 .results(pagedResponse)
                 .totalActiveJobs(totalActiveJobs)
-                .appliedFilters(Map.of(
-                        "keyword", filter.getKeyword(),
-                        "location", filter.getLocation(),
-                        "status", filter.getStatus(),
-                        "companyName", filter.getCompanyName()
-                ))
+                .appliedFilters(appliedFilters)
+                .build();
+    }
+
+    private PagedResponse<JobPostSummary> seekJobs(String keyword, int[] candidates, String location,
+                                                   JobStatus jobStatus, String companyName, String sortBy,
+                                                   boolean descending, String cursor, int size) {
+        if(JobSortField.from(sortBy) != JobSortField.POSTED_DATE) {
+            throw new IllegalArgumentException("Cursor pagination only supports sorting by postedDate");
+        }
+
+        KeysetCursor after = cursor != null && !cursor.isBlank() ? KeysetCursor.decode(cursor, sortBy, descending) : null;
+        LocalDateTime lastPostedDate = after != null ? after.value() : null;
+        Long lastId = after != null ? after.id() : null;
+
+        List<JobPostSummary> rows;
+        if(candidates != null && candidates.length == 0) {
+            rows = List.of();
+        } else {
+            List<Long> ids = candidates != null ? toIds(candidates) : null;
+            JobSearchFilter filter = new JobSearchFilter(ids != null ? null : keywordTerms(keyword), ids,
+                    location, jobStatus, companyName);
+            rows = jobSearchRepo.seek(filter, descending, lastPostedDate, lastId, size + 1);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<JobPostSummary> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if(hasNext) {
+            JobPostSummary last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(sortBy, descending, last.getPostedDate(), last.getId()).encode();
+        }
+
+        return PagedResponse.<JobPostSummary>builder()
+                .content(page)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalsMode(TotalsMode.NONE)
                 .build();
     }
 
-    public JobPostResponse createJob(JobPostRequest jobPostRequest, User user) {
-        Company company = user.getCompany();
+    /**
+     * Keyword terms for the database path, split like the keyword index splits them. A
+     * keyword with no alphanumeric term is matched as a whole.
+     */
+    private static List<String> keywordTerms(String keyword) {
+        if(keyword == null) {
+            return null;
+        }
+        List<String> terms = JobKeywordIndex.tokenize(keyword);
+        return terms.isEmpty() ? List.of(keyword) : terms;
+    }
+
+    private static List<Long> toIds(int[] candidates) {
+        return Arrays.stream(candidates).asLongStream().boxed().toList();
+    }
 
-        if(company == null) {
+    public JobPostResponse createJob(JobPostRequest jobPostRequest, AuthenticatedUser user) {
+        if(user.getCompanyId() == null) {
             throw new IllegalStateException("User is not associated with any company");
         }
-        log.info("User {} is creating a job {} for the company {}", user.getUsername(), jobPostRequest.getTitle(), company.getName());
+        Company company = companyRepo.getReferenceById(user.getCompanyId());
+        log.debug("User {} is creating a job {} for the company {}", user.getUsername(), jobPostRequest.getTitle(), user.getCompanyId());
 
         JobPost job = JobPost.builder()
                 .title(jobPostRequest.getTitle())
@@ -113,58 +233,104 @@ public class JobPostService {
                 .location(jobPostRequest.getLocation())
                 .salary(jobPostRequest.getSalary())
                 .status(jobPostRequest.getStatus())
-                .postedBy(user)
+                .postedBy(userRepo.getReferenceById(user.getId()))
                 .company(company)
                 .postedDate(LocalDateTime.now())
                 .build();
 
         JobPost savedJob = jobRepo.save(job);
+        jobDataVersion.bumpAfterCommit();
+        keywordIndex.index(savedJob);
+        jobStatusCounters.increment(savedJob.getStatus());
         log.info("Job {} created successfully with id {}", savedJob.getTitle(), savedJob.getId());
 
         return mapToResponse(savedJob);
     }
 
-    public void deleteJob(Long jobId, User currentUser) {
+    /**
+     * Inserts one chunk of a bulk import in a single transaction and returns the new ids in
+     * request order. Relies on the pooled job id sequence so Hibernate can batch the inserts.
+     */
+    @Transactional
+    public List<Long> createJobBatch(List<JobPostRequest> requests, AuthenticatedUser user) {
+        if(user.getCompanyId() == null) {
+            throw new IllegalStateException("User is not associated with any company");
+        }
+        Company company = companyRepo.getReferenceById(user.getCompanyId());
+        User postedBy = userRepo.getReferenceById(user.getId());
+        LocalDateTime now = LocalDateTime.now();
+
+        List<JobPost> jobs = requests.stream()
+                .map(request -> JobPost.builder()
+                        .title(request.getTitle())
+                        .description(request.getDescription())
+                        .location(request.getLocation())
+                        .salary(request.getSalary())
+                        .status(request.getStatus() != null ? request.getStatus() : JobStatus.OPEN)
+                        .postedBy(postedBy)
+                        .company(company)
+                        .postedDate(now)
+                        .build())
+                .toList();
+
+        List<JobPost> saved = jobRepo.saveAllAndFlush(jobs);
+        jobDataVersion.bumpAfterCommit();
+        saved.forEach(job -> {
+            keywordIndex.index(job);
+            jobStatusCounters.increment(job.getStatus());
+        });
+        log.info("User {} bulk-created {} jobs for company {}", user.getUsername(), saved.size(), user.getCompanyId());
+
+        return saved.stream().map(JobPost::getId).toList();
+    }
+
+    public void deleteJob(Long jobId, AuthenticatedUser currentUser) {
+        JobSnapshot snapshot = jobSnapshots.get(jobId);
+        if(currentUser.getRole() == Role.EMPLOYER && !snapshot.isOwnedBy(currentUser)) {
+            throw new UnauthorizedOperationException("You are not authorized to delete this job");
+        }
+
         JobPost job = jobRepo.findById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
         if(currentUser.getRole() == Role.EMPLOYER) {
-            if(!job.getPostedBy().getId().equals(currentUser.getId())) {
-                throw new UnauthorizedOperationException("You are not authorized to delete this job");
-            }
-            if(!job.getCompany().getId().equals(currentUser.getCompany().getId())) {
-                throw new UnauthorizedOperationException("You are not authorized to delete this job");
-            }
             if(job.getApplications() != null && !job.getApplications().isEmpty()) {
                 throw new UnauthorizedOperationException("Cannot delete job with existing applications");
             }
         }
 
-        log.info("User {} is deleting job {}", currentUser.getUsername(), job.getTitle());
+        log.debug("User {} is deleting job {}", currentUser.getUsername(), job.getTitle());
 
         jobRepo.delete(job);
+        jobDataVersion.bumpAfterCommit();
+        jobSnapshots.invalidate(jobId);
+        jobFragments.invalidate(jobId);
+        keywordIndex.remove(job.getId());
+        jobStatusCounters.decrement(job.getStatus());
 
         log.info("Job {} deleted successfully", job.getTitle());
     }
 
-    public JobPostResponse updateJobStatus(Long id, JobStatus status, User currentUser) {
+    public JobPostResponse updateJobStatus(Long id, JobStatus status, AuthenticatedUser currentUser) {
+        JobSnapshot snapshot = jobSnapshots.get(id);
+        if(currentUser.getRole() == Role.EMPLOYER && !snapshot.isOwnedBy(currentUser)) {
+            throw new UnauthorizedOperationException("You are not authorized to update this job");
+        }
+
         JobPost job = jobRepo.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
 
-        if(currentUser.getRole() == Role.EMPLOYER) {
-            if(!job.getPostedBy().getId().equals(currentUser.getId())) {
-                throw new UnauthorizedOperationException("You are not authorized to update this job");
-            }
-            if(!job.getCompany().getId().equals(currentUser.getCompany().getId())) {
-                throw new UnauthorizedOperationException("You are not authorized to update this job");
-            }
-        }
-
-        log.info("User {} is updating job {} status to {}", currentUser.getUsername(), job.getTitle(), status);
+        log.debug("User {} is updating job {} status to {}", currentUser.getUsername(), job.getTitle(), status);
 
+        JobStatus previousStatus = job.getStatus();
         job.setStatus(status);
 
         JobPost updatedJob = jobRepo.save(job);
+        jobDataVersion.bumpAfterCommit();
+        jobSnapshots.invalidate(id);
+        jobFragments.invalidate(id);
+        keywordIndex.index(updatedJob);
+        jobStatusCounters.transition(previousStatus, status);
 
         log.info("Job {} status updated successfully to {}", updatedJob.getTitle(), status);
 
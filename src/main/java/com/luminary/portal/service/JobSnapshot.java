@@ -0,0 +1,16 @@
+package com.luminary.portal.service;
+
+import com.luminary.portal.entity.enums.JobStatus;
+import com.luminary.portal.security.AuthenticatedUser;
+
+import java.util.Objects;
+
+/**
+ * The fields of a job that request checks need, without its description or associations.
+ */
+public record JobSnapshot(Long id, String title, JobStatus status, Long companyId, Long postedById) {
+
+    public boolean isOwnedBy(AuthenticatedUser user) {
+        return Objects.equals(postedById, user.getId()) && Objects.equals(companyId, user.getCompanyId());
+    }
+}
@@ -0,0 +1,56 @@
+package com.luminary.portal.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.luminary.portal.config.JobCacheProperties;
+import com.luminary.portal.exception.ResourceNotFoundException;
+import com.luminary.portal.repository.JobPostRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read-through cache of {@link JobSnapshot}s keyed by job id, bounded by size with
+ * Caffeine's W-TinyLFU eviction. Missing jobs are not cached. {@link JobPostService}
+ * invalidates an entry on every write to that job.
+ */
+@Component
+public class JobSnapshotCache {
+    private final JobPostRepository jobRepo;
+    private final Cache<Long, JobSnapshot> snapshots;
+
+    public JobSnapshotCache(JobPostRepository jobRepo, JobCacheProperties props) {
+        this.jobRepo = jobRepo;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(props.getMaxSize())
+                .expireAfterWrite(props.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    public JobSnapshot get(Long jobId) {
+        JobSnapshot snapshot = snapshots.get(jobId, id -> jobRepo.findSnapshotById(id).orElse(null));
+        if (snapshot == null) {
+            throw new ResourceNotFoundException("Job not found");
+        }
+        return snapshot;
+    }
+
+    public void invalidate(Long jobId) {
+        snapshots.invalidate(jobId);
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = snapshots.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", snapshots.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        result.put("averageLoadMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        return result;
+    }
+}
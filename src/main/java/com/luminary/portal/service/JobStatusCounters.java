@@ -0,0 +1,87 @@
+package com.luminary.portal.service;
+
+import com.luminary.portal.entity.enums.JobStatus;
+import com.luminary.portal.repository.JobPostRepository;
+import com.luminary.portal.repository.JobStatusCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-process job counts per {@link JobStatus}, seeded once at startup and updated by
+ * every job write in {@link JobPostService}. A periodic reconcile against the database
+ * corrects drift from writes that raced with the previous reconcile.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobStatusCounters {
+    private static final JobStatus[] STATUSES = JobStatus.values();
+
+    private final JobPostRepository jobRepo;
+
+    private final AtomicLongArray counts = new AtomicLongArray(STATUSES.length);
+    private volatile boolean seeded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${app.job-counters.reconcile-interval:PT5M}",
+            initialDelayString = "${app.job-counters.reconcile-interval:PT5M}")
+    public void reconcile() {
+        long[] actual = new long[STATUSES.length];
+        for (JobStatusCount row : jobRepo.countGroupedByStatus()) {
+            if (row.getStatus() != null) {
+                actual[row.getStatus().ordinal()] = row.getTotal();
+            }
+        }
+
+        for (JobStatus status : STATUSES) {
+            long previous = counts.getAndSet(status.ordinal(), actual[status.ordinal()]);
+            if (seeded && previous != actual[status.ordinal()]) {
+                log.warn("Job status counter for {} drifted: was {}, database has {}", status, previous, actual[status.ordinal()]);
+            }
+        }
+        seeded = true;
+    }
+
+    public long count(JobStatus status) {
+        return seeded ? counts.get(status.ordinal()) : jobRepo.countByStatus(status);
+    }
+
+    public Map<JobStatus, Long> snapshot() {
+        Map<JobStatus, Long> snapshot = new EnumMap<>(JobStatus.class);
+        for (JobStatus status : STATUSES) {
+            snapshot.put(status, count(status));
+        }
+        return snapshot;
+    }
+
+    public void increment(JobStatus status) {
+        if (status != null) {
+            counts.incrementAndGet(status.ordinal());
+        }
+    }
+
+    public void decrement(JobStatus status) {
+        if (status != null) {
+            counts.decrementAndGet(status.ordinal());
+        }
+    }
+
+    public void transition(JobStatus from, JobStatus to) {
+        if (from != to) {
+            decrement(from);
+            increment(to);
+        }
+    }
+}
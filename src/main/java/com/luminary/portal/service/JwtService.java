@@ -1,6 +1,10 @@
 package com.luminary.portal.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -8,17 +12,35 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
-import java.util.function.Function;
 
 @Service
 public class JwtService {
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private static final long TOKEN_VALIDITY_MS = 1000 * 60 * 60 * 24;
 
-    private Key getSignInKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    private final Key signInKey;
+    private final JwtParser parser;
+
+    /**
+     * Recently verified tokens, each kept no longer than its own {@code exp} claim, so a
+     * repeat request skips the HMAC check and claims parsing.
+     */
+    private final Cache<String, VerifiedToken> verified;
+
+    public JwtService(@Value("${jwt.secret}") String secretKey,
+                      @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+                      @Value("${jwt.cache.max-ttl:PT15M}") Duration cacheMaxTtl) {
+        this.signInKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry(cacheMaxTtl))
+                .build();
     }
 
     public String generateToken(Map<String, Object> extraClaims, String userName) {
@@ -26,31 +48,62 @@ public class JwtService {
                 .setClaims(extraClaims)
                 .setSubject(userName)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + TOKEN_VALIDITY_MS))
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
+    /**
+     * Verifies the token once and returns its claims.
+     *
+     * @throws io.jsonwebtoken.JwtException if the signature is invalid, the token is malformed or it has expired
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verified.getIfPresent(token);
+        if (cached != null) {
+            if (!cached.isExpired(Instant.now())) {
+                return cached;
+            }
+            verified.invalidate(token);
+        }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimResolver.apply(claims);
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        VerifiedToken result = new VerifiedToken(
+                claims.getSubject(),
+                claims.get("uid", Long.class),
+                claims.get("role", String.class),
+                claims.get("name", String.class),
+                claims.get("cid", Long.class),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration()));
+        verified.put(token, result);
+        return result;
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
     }
 
-    public boolean isTokenValid(String token, String userName) {
-        Date expiration = extractClaim(token, Claims::getExpiration);
+    private record TokenExpiry(Duration maxTtl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken claims, long currentTime) {
+            long ttl = maxTtl.toNanos();
+            if (claims.expiresAt() != null) {
+                long remaining = Duration.between(Instant.now(), claims.expiresAt()).toNanos();
+                ttl = Math.min(ttl, Math.max(remaining, 0));
+            }
+            return ttl;
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
 
-        return userName.equals(extractUsername(token)) && !expiration.before(new Date());
+        @Override
+        public long expireAfterRead(String token, VerifiedToken claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
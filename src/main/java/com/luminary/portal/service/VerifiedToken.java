@@ -0,0 +1,14 @@
+package com.luminary.portal.service;
+
+import java.time.Instant;
+
+/**
+ * Claims of a JWT whose signature and expiry have already been checked by {@link JwtService}.
+ */
+public record VerifiedToken(String subject, Long userId, String role, String name, Long companyId,
+                            Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
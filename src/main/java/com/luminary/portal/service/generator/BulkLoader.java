@@ -0,0 +1,145 @@
+package com.luminary.portal.service.generator;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * Streams rows into one table over one connection. On PostgreSQL the rows go through
+ * {@code COPY ... FROM STDIN}, which skips per-statement parsing and planning entirely;
+ * anywhere else they fall back to batched prepared inserts. Commits are left to the caller.
+ */
+abstract class BulkLoader implements AutoCloseable {
+    protected long rows;
+
+    static BulkLoader open(Connection connection, String table, int batchSize, String... columns) throws SQLException {
+        if (connection.isWrapperFor(PGConnection.class)) {
+            return new CopyLoader(connection.unwrap(PGConnection.class), table, columns);
+        }
+        return new BatchLoader(connection, table, batchSize, columns);
+    }
+
+    abstract void add(Object... values) throws SQLException;
+
+    /**
+     * Sends any buffered rows and ends the load; returns the number of rows written.
+     */
+    abstract long finish() throws SQLException;
+
+    @Override
+    public abstract void close() throws SQLException;
+
+    private static final class CopyLoader extends BulkLoader {
+        private static final int FLUSH_CHARS = 1 << 20;
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 4096);
+
+        CopyLoader(PGConnection connection, String table, String... columns) throws SQLException {
+            this.copyIn = connection.getCopyAPI().copyIn(
+                    "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN");
+        }
+
+        @Override
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append('\t');
+                }
+                appendValue(values[i]);
+            }
+            buffer.append('\n');
+            rows++;
+            if (buffer.length() >= FLUSH_CHARS) {
+                flush();
+            }
+        }
+
+        private void appendValue(Object value) {
+            if (value == null) {
+                buffer.append("\\N");
+                return;
+            }
+            String text = value instanceof Enum<?> constant ? constant.name() : value.toString();
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '\\' -> buffer.append("\\\\");
+                    case '\t' -> buffer.append("\\t");
+                    case '\n' -> buffer.append("\\n");
+                    case '\r' -> buffer.append("\\r");
+                    default -> buffer.append(c);
+                }
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        long finish() throws SQLException {
+            flush();
+            copyIn.endCopy();
+            return rows;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static final class BatchLoader extends BulkLoader {
+        private final PreparedStatement statement;
+        private final int batchSize;
+        private int pending;
+
+        BatchLoader(Connection connection, String table, int batchSize, String... columns) throws SQLException {
+            String placeholders = String.join(", ", Collections.nCopies(columns.length, "?"));
+            this.statement = connection.prepareStatement(
+                    "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + placeholders + ")");
+            this.batchSize = Math.max(1, batchSize);
+        }
+
+        @Override
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                statement.setObject(i + 1, value instanceof Enum<?> constant ? constant.name() : value);
+            }
+            statement.addBatch();
+            rows++;
+            if (++pending >= batchSize) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        long finish() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+            return rows;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package com.luminary.portal.service.generator;
+
+import com.luminary.portal.config.GeneratorProperties;
+import com.luminary.portal.config.JobSequenceAligner;
+import com.luminary.portal.entity.enums.ApplicationStatus;
+import com.luminary.portal.entity.enums.JobStatus;
+import com.luminary.portal.entity.enums.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads a large synthetic data set for scale and load testing: companies with their
+ * employers, job seekers, jobs and applications, sized by {@link GeneratorProperties}.
+ * Jobs are spread over companies and applications over jobs by Zipf distributions, so a
+ * few hot jobs carry hundreds of thousands of applicants while the long tail has a handful.
+ * Rows are appended after the highest existing ids and streamed with {@link BulkLoader};
+ * applications, the bulk of the data, are loaded over several connections at once.
+ * The output depends only on the seed and the sizes, not on the parallelism.
+ */
+@Slf4j
+@Component
+@Profile("generate")
+public class SyntheticDataGenerator implements CommandLineRunner {
+    /** Domain of every generated account's email, so tools can tell them from real accounts. */
+    public static final String EMAIL_DOMAIN = "example.com";
+    private static final int MAX_JOB_AGE_SECONDS = (int) TimeUnit.DAYS.toSeconds(365);
+    private static final int MAX_APPLY_WINDOW_SECONDS = (int) TimeUnit.DAYS.toSeconds(60);
+
+    private static final String[] USER_COLUMNS = {"id", "name", "email", "password", "role"};
+    private static final String[] COMPANY_COLUMNS = {"id", "name", "description", "location", "owner_id"};
+    private static final String[] JOB_COLUMNS = {"id", "title", "description", "location", "salary", "status",
+            "company_id", "posted_by", "posted_date"};
+    private static final String[] APPLICATION_COLUMNS = {"id", "job_id", "applicant_id", "resume_url", "status",
+            "applied_at"};
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbc;
+    private final GeneratorProperties props;
+    private final JobSequenceAligner jobSequenceAligner;
+    private final ConfigurableApplicationContext context;
+    private final String schema;
+
+    public SyntheticDataGenerator(DataSource dataSource,
+                                  GeneratorProperties props,
+                                  JobSequenceAligner jobSequenceAligner,
+                                  ConfigurableApplicationContext context,
+                                  @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.dataSource = dataSource;
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.props = props;
+        this.jobSequenceAligner = jobSequenceAligner;
+        this.context = context;
+        this.schema = schema.isBlank() ? "" : schema + ".";
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        void writeTo(BulkLoader loader) throws SQLException;
+    }
+
+    /**
+     * A contiguous run of jobs whose applications one connection loads, starting at {@code firstId}.
+     */
+    private record Slice(int fromJob, int toJob, long firstId) {
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        int companies = props.getCompanies();
+        int seekers = props.getJobSeekers();
+        int jobs = props.getJobs();
+        long applications = props.getApplications();
+        if (companies < 1 || seekers < 1 || jobs < 1 || applications < 0) {
+            throw new IllegalStateException("app.generator needs at least one company, job seeker and job");
+        }
+        if (applications > (long) jobs * seekers) {
+            throw new IllegalStateException("app.generator.applications cannot exceed jobs x job seekers ("
+                    + (long) jobs * seekers + ") without duplicate applications");
+        }
+
+        long started = System.nanoTime();
+        long userBase = nextId("users");
+        long companyBase = nextId("companies");
+        long jobBase = nextId("job_posts");
+        long applicationBase = nextId("applications");
+        long seekerBase = userBase + companies;
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        SplittableRandom random = new SplittableRandom(props.getSeed());
+
+        // one low-cost hash shared by every generated account, logins verify at this strength
+        String passwordHash = new BCryptPasswordEncoder(props.getBcryptStrength()).encode(props.getPassword());
+        log.info("Generating {} companies, {} job seekers, {} jobs and {} applications",
+                companies, seekers, jobs, applications);
+
+        load("users", USER_COLUMNS, loader -> {
+            for (int i = 0; i < companies; i++) {
+                writeUser(loader, random, userBase + i, passwordHash, Role.EMPLOYER);
+            }
+            for (int i = 0; i < seekers; i++) {
+                writeUser(loader, random, seekerBase + i, passwordHash, Role.JOB_SEEKER);
+            }
+        });
+
+        byte[] companyLocations = new byte[companies];
+        load("companies", COMPANY_COLUMNS, loader -> {
+            for (int i = 0; i < companies; i++) {
+                companyLocations[i] = (byte) random.nextInt(SyntheticText.LOCATIONS.length);
+                loader.add(companyBase + i, SyntheticText.companyName(i), SyntheticText.companyDescription(random),
+                        SyntheticText.LOCATIONS[companyLocations[i]], userBase + i);
+            }
+        });
+
+        double[] companyCdf = zipfCdf(companies, props.getCompanySkew());
+        int[] jobAgeSeconds = new int[jobs];
+        load("job_posts", JOB_COLUMNS, loader -> {
+            for (int i = 0; i < jobs; i++) {
+                int company = sample(companyCdf, random);
+                String location = random.nextInt(10) < 7
+                        ? SyntheticText.LOCATIONS[companyLocations[company]]
+                        : SyntheticText.pick(random, SyntheticText.LOCATIONS);
+                String title = SyntheticText.jobTitle(random);
+                jobAgeSeconds[i] = random.nextInt(MAX_JOB_AGE_SECONDS);
+                loader.add(jobBase + i, title, SyntheticText.jobDescription(random, title), location,
+                        (double) (300 + random.nextInt(4700)) * 1000, jobStatus(random),
+                        companyBase + company, userBase + company, now.minusSeconds(jobAgeSeconds[i]));
+            }
+        });
+
+        if (applications > 0) {
+            int[] perJob = applicationsPerJob(jobs, applications, seekers, random);
+            loadApplications(perJob, jobAgeSeconds, jobBase, seekerBase, applicationBase, now);
+        }
+
+        alignIdentities("users", "companies", "applications");
+        jobSequenceAligner.align();
+        log.info("Synthetic data loaded in {} s; every generated account uses the configured app.generator.password",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+
+        if (props.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private static void writeUser(BulkLoader loader, SplittableRandom random, long id, String passwordHash, Role role)
+            throws SQLException {
+        String name = SyntheticText.personName(random);
+        String email = name.toLowerCase().replace(' ', '.') + "." + id + "@" + EMAIL_DOMAIN;
+        loader.add(id, name, email, passwordHash, role);
+    }
+
+    private void loadApplications(int[] perJob, int[] jobAgeSeconds, long jobBase, long seekerBase,
+                                  long applicationBase, LocalDateTime now) throws Exception {
+        int seekers = props.getJobSeekers();
+        long stride = coprimeStride(seekers);
+        List<Slice> slices = slices(perJob, applicationBase, Math.max(1, props.getParallelism()));
+
+        ExecutorService workers = Executors.newFixedThreadPool(slices.size());
+        try {
+            List<Future<Long>> loads = new ArrayList<>();
+            for (Slice slice : slices) {
+                loads.add(workers.submit(() -> load("applications", APPLICATION_COLUMNS, loader -> {
+                    long id = slice.firstId();
+                    for (int job = slice.fromJob(); job < slice.toJob(); job++) {
+                        // seeded per job, so the rows do not depend on how the jobs were sliced
+                        SplittableRandom random = new SplittableRandom(props.getSeed() * 31 + job);
+                        long offset = random.nextInt(seekers);
+                        int age = jobAgeSeconds[job];
+                        int window = Math.min(age, MAX_APPLY_WINDOW_SECONDS);
+                        for (int k = 0; k < perJob[job]; k++) {
+                            // a stride coprime with the seeker count visits distinct seekers for each job
+                            long applicantId = seekerBase + (offset + k * stride) % seekers;
+                            int appliedAgo = age - random.nextInt(window + 1);
+                            loader.add(id++, jobBase + job, applicantId,
+                                    "https://resumes.example.com/" + applicantId + ".pdf",
+                                    applicationStatus(random), now.minusSeconds(appliedAgo));
+                        }
+                    }
+                })));
+            }
+            for (Future<Long> load : loads) {
+                try {
+                    load.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception cause ? cause : e;
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private long load(String table, String[] columns, RowSource source) throws SQLException {
+        long started = System.nanoTime();
+        long rows;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (BulkLoader loader = BulkLoader.open(connection, schema + table, props.getBatchSize(), columns)) {
+                source.writeTo(loader);
+                rows = loader.finish();
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+        long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        log.info("Loaded {} rows into {} in {} ms ({} rows/s)", rows, table, millis, rows * 1000 / millis);
+        return rows;
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + schema + table, Long.class);
+        return (maxId != null ? maxId : 0) + 1;
+    }
+
+    /**
+     * Rows were written with explicit ids; moves each identity past them so the application's
+     * own inserts do not collide.
+     */
+    private void alignIdentities(String... tables) {
+        boolean postgres = Boolean.TRUE.equals(jdbc.execute((Connection connection) ->
+                connection.getMetaData().getDatabaseProductName().equalsIgnoreCase("PostgreSQL")));
+        for (String table : tables) {
+            String qualified = schema + table;
+            try {
+                long next = nextId(table);
+                if (postgres) {
+                    jdbc.queryForObject("SELECT setval(pg_get_serial_sequence(?, 'id'), ?, false)",
+                            Long.class, qualified, next);
+                } else {
+                    jdbc.execute("ALTER TABLE " + qualified + " ALTER COLUMN id RESTART WITH " + next);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not move the id of {} past the generated rows: {}", qualified, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Applications per job index. Counts follow a Zipf law over popularity ranks, capped at
+     * one application per seeker, and the ranks are scattered over the job ids so hot jobs
+     * are not all the oldest ones.
+     */
+    private int[] applicationsPerJob(int jobs, long total, int cap, SplittableRandom random) {
+        double skew = props.getJobSkew();
+        double norm = 0;
+        for (int rank = 1; rank <= jobs; rank++) {
+            norm += Math.pow(rank, -skew);
+        }
+
+        int[] byRank = new int[jobs];
+        long assigned = 0;
+        for (int rank = 0; rank < jobs; rank++) {
+            byRank[rank] = (int) Math.min(cap, (long) (total * Math.pow(rank + 1, -skew) / norm));
+            assigned += byRank[rank];
+        }
+        // hand out what rounding and the cap left over, one per job from the top rank down
+        while (assigned < total) {
+            for (int rank = 0; rank < jobs && assigned < total; rank++) {
+                if (byRank[rank] < cap) {
+                    byRank[rank]++;
+                    assigned++;
+                }
+            }
+        }
+
+        int[] perJob = new int[jobs];
+        long stride = coprimeStride(jobs);
+        long shift = random.nextInt(jobs);
+        for (int rank = 0; rank < jobs; rank++) {
+            perJob[(int) ((shift + rank * stride) % jobs)] = byRank[rank];
+        }
+        return perJob;
+    }
+
+    private static List<Slice> slices(int[] perJob, long firstId, int parallelism) {
+        long total = Arrays.stream(perJob).asLongStream().sum();
+        List<Slice> slices = new ArrayList<>();
+        int from = 0;
+        long loaded = 0;
+        long sliceStart = firstId;
+        for (int job = 0; job < perJob.length; job++) {
+            loaded += perJob[job];
+            boolean last = job == perJob.length - 1;
+            if (last || slices.size() < parallelism - 1 && loaded * parallelism >= total * (slices.size() + 1)) {
+                slices.add(new Slice(from, job + 1, sliceStart));
+                from = job + 1;
+                sliceStart = firstId + loaded;
+            }
+        }
+        return slices;
+    }
+
+    private static double[] zipfCdf(int size, double skew) {
+        double[] cdf = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += Math.pow(i + 1, -skew);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, SplittableRandom random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index < 0 ? -index - 1 : index, cdf.length - 1);
+    }
+
+    /**
+     * A step near the golden ratio of {@code n} sharing no factor with it, so
+     * {@code (offset + k * step) % n} visits every residue once per {@code n} steps.
+     */
+    private static long coprimeStride(long n) {
+        long stride = Math.max(1, (long) (n * 0.6180339887));
+        while (gcd(stride, n) != 1) {
+            stride++;
+        }
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private static JobStatus jobStatus(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 80) {
+            return JobStatus.OPEN;
+        }
+        if (roll < 88) {
+            return JobStatus.CLOSED;
+        }
+        if (roll < 93) {
+            return JobStatus.FILLED;
+        }
+        if (roll < 97) {
+            return JobStatus.EXPIRED;
+        }
+        if (roll < 99) {
+            return JobStatus.ON_HOLD;
+        }
+        return JobStatus.DRAFT;
+    }
+
+    private static ApplicationStatus applicationStatus(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            return ApplicationStatus.APPLIED;
+        }
+        if (roll < 85) {
+            return ApplicationStatus.SHORTLISTED;
+        }
+        if (roll < 98) {
+            return ApplicationStatus.REJECTED;
+        }
+        return ApplicationStatus.HIRED;
+    }
+}
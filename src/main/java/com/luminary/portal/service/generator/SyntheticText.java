@@ -0,0 +1,131 @@
+package com.luminary.portal.service.generator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Names, titles and job descriptions assembled from small word lists. The vocabulary is
+ * what real postings use, so keyword search sees realistic term frequencies: common words
+ * like "engineer" match a large share of jobs, specialisations match a few.
+ */
+final class SyntheticText {
+    static final String[] LOCATIONS = {
+            "Bengaluru", "Pune", "Hyderabad", "Mumbai", "Chennai", "Gurugram", "Noida", "Delhi",
+            "Kolkata", "Ahmedabad", "Kochi", "Jaipur", "Indore", "Coimbatore", "Remote"
+    };
+
+    private static final String[] FIRST_NAMES = {
+            "Aarav", "Aditi", "Akash", "Ananya", "Arjun", "Divya", "Farhan", "Gauri", "Harsh", "Isha",
+            "Karan", "Kavya", "Meera", "Nikhil", "Neha", "Pooja", "Rahul", "Riya", "Rohan", "Sanjay",
+            "Shreya", "Siddharth", "Sneha", "Tanvi", "Varun", "Vikram", "Yash", "Zoya", "Priya", "Manoj"
+    };
+    private static final String[] LAST_NAMES = {
+            "Sharma", "Verma", "Iyer", "Nair", "Patel", "Reddy", "Kulkarni", "Deshpande", "Menon", "Gupta",
+            "Joshi", "Rao", "Shah", "Mehta", "Chopra", "Banerjee", "Das", "Pillai", "Khan", "Singh"
+    };
+    private static final String[] COMPANY_PREFIXES = {
+            "Apex", "Blue", "Bright", "Cedar", "Crest", "Delta", "Ember", "Falcon", "Granite", "Harbor",
+            "Indigo", "Juniper", "Kestrel", "Lumen", "Maple", "Nimbus", "Orbit", "Pioneer", "Quartz", "Summit"
+    };
+    private static final String[] COMPANY_SUFFIXES = {
+            "Labs", "Systems", "Technologies", "Analytics", "Solutions", "Networks", "Software", "Digital",
+            "Consulting", "Logistics", "Health", "Finance"
+    };
+    private static final String[] INDUSTRIES = {
+            "fintech", "healthcare", "e-commerce", "logistics", "edtech", "travel", "insurance", "retail",
+            "media", "manufacturing"
+    };
+    private static final String[] LEVELS = {"", "", "Junior", "Senior", "Senior", "Lead", "Staff", "Principal"};
+    private static final String[] ROLES = {
+            "Software Engineer", "Backend Engineer", "Frontend Engineer", "Full Stack Developer",
+            "Java Developer", "Data Engineer", "Data Analyst", "Data Scientist", "DevOps Engineer",
+            "Site Reliability Engineer", "QA Engineer", "Mobile Developer", "Product Manager",
+            "Product Designer", "Business Analyst", "Machine Learning Engineer", "Security Engineer",
+            "Cloud Architect", "Engineering Manager", "Technical Writer", "Support Engineer",
+            "Database Administrator", "Sales Executive", "Marketing Manager", "HR Business Partner"
+    };
+    private static final String[] AREAS = {
+            "Payments", "Search", "Platform", "Checkout", "Growth", "Infrastructure", "Risk", "Lending",
+            "Mobile", "Analytics", "Identity", "Billing", "Catalog", "Supply Chain", "Customer Experience"
+    };
+    private static final String[] SKILLS = {
+            "Java", "Spring Boot", "Kotlin", "Python", "Go", "TypeScript", "React", "Angular", "Node.js",
+            "PostgreSQL", "MySQL", "MongoDB", "Redis", "Kafka", "RabbitMQ", "Elasticsearch", "Docker",
+            "Kubernetes", "Terraform", "AWS", "GCP", "Azure", "Spark", "Airflow", "SQL", "Tableau",
+            "Figma", "Jenkins", "GraphQL", "REST APIs", "microservices", "Linux", "Selenium", "Swift",
+            "Android", "TensorFlow", "PyTorch", "Excel", "Salesforce", "Jira"
+    };
+    private static final String[] OPENERS = {
+            "We are looking for a %s to join our %s team.",
+            "Join us as a %s and help shape the future of our %s products.",
+            "Our %s group is hiring a %s.",
+            "As a %s you will own key parts of the %s roadmap."
+    };
+    private static final String[] DUTIES = {
+            "You will design, build and operate services used by millions of customers.",
+            "You will work closely with product, design and operations to ship features every week.",
+            "You will improve reliability, performance and observability across our stack.",
+            "You will mentor engineers and review designs and code.",
+            "You will turn ambiguous business problems into clear, measurable outcomes.",
+            "You will own features end to end, from discovery to production.",
+            "You will partner with customers to understand their workflows and pain points."
+    };
+    private static final String[] PERKS = {
+            "We offer flexible hours, health insurance for your family and a learning budget.",
+            "Hybrid working, quarterly offsites and stock options.",
+            "Remote-friendly team with a home office allowance.",
+            "Competitive pay, annual bonus and generous parental leave."
+    };
+
+    private SyntheticText() {
+    }
+
+    static String personName(SplittableRandom random) {
+        return pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+    }
+
+    static String companyName(int index) {
+        // deterministic and unique per index, the suffix number only kicks in past 240 companies
+        String name = COMPANY_PREFIXES[index % COMPANY_PREFIXES.length] + " "
+                + COMPANY_SUFFIXES[(index / COMPANY_PREFIXES.length) % COMPANY_SUFFIXES.length];
+        int round = index / (COMPANY_PREFIXES.length * COMPANY_SUFFIXES.length);
+        return round == 0 ? name : name + " " + (round + 1);
+    }
+
+    static String companyDescription(SplittableRandom random) {
+        return "A " + pick(random, INDUSTRIES) + " company building products with "
+                + pick(random, SKILLS) + " and " + pick(random, SKILLS) + ".";
+    }
+
+    static String jobTitle(SplittableRandom random) {
+        String level = pick(random, LEVELS);
+        String title = level.isEmpty() ? pick(random, ROLES) : level + " " + pick(random, ROLES);
+        return random.nextInt(3) == 0 ? title + ", " + pick(random, AREAS) : title;
+    }
+
+    static String jobDescription(SplittableRandom random, String title) {
+        String area = pick(random, AREAS);
+        String opener = pick(random, OPENERS);
+        StringBuilder description = new StringBuilder(400);
+        description.append(opener.startsWith("Our")
+                ? String.format(opener, area, title)
+                : String.format(opener, title, area));
+        description.append(' ').append(pick(random, DUTIES));
+        if (random.nextBoolean()) {
+            description.append(' ').append(pick(random, DUTIES));
+        }
+        int skills = 3 + random.nextInt(4);
+        description.append(" Must have ").append(1 + random.nextInt(10)).append("+ years with ");
+        for (int i = 0; i < skills; i++) {
+            if (i > 0) {
+                description.append(i == skills - 1 ? " and " : ", ");
+            }
+            description.append(pick(random, SKILLS));
+        }
+        description.append(". ").append(pick(random, PERKS));
+        return description.toString();
+    }
+
+    static String pick(SplittableRandom random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+}
@@ -0,0 +1,324 @@
+package com.luminary.portal.service.intake;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.luminary.portal.config.IntakeProperties;
+import com.luminary.portal.entity.enums.ApplicationStatus;
+import com.luminary.portal.exception.ServiceOverloadedException;
+import com.luminary.portal.service.ApplicationDataVersion;
+import com.luminary.portal.service.AppliedPairsFilter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind intake for job applications. {@link #submit} journals the application,
+ * puts it on a bounded queue and returns a provisional id; a single writer thread drains
+ * the queue into multi-row {@code INSERT ... ON CONFLICT DO NOTHING} statements. When the
+ * queue is full, submitters get a 503 instead of waiting.
+ * <p>
+ * Applications that were acknowledged but not yet written survive a crash in the journal
+ * and are replayed on the next start. The unique (job, applicant) constraint makes the
+ * replay idempotent and turns repeats into {@link IntakeState#DUPLICATE}.
+ */
+@Slf4j
+@Component
+public class ApplicationIntakeQueue {
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final IntakeProperties props;
+    private final ObjectMapper objectMapper;
+    private final AppliedPairsFilter appliedPairs;
+    private final ApplicationDataVersion applicationVersions;
+    private final JdbcTemplate jdbc;
+    private final String table;
+
+    private final BlockingQueue<PendingApplication> queue;
+    private final Cache<String, IntakeRecord> statuses;
+    private final ReentrantLock journalLock = new ReentrantLock();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder persisted = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private IntakeJournal journal;
+    private Thread writer;
+    private volatile boolean running;
+    private boolean journalDirty;
+
+    public ApplicationIntakeQueue(IntakeProperties props, ObjectMapper objectMapper, AppliedPairsFilter appliedPairs,
+                                  ApplicationDataVersion applicationVersions, DataSource dataSource,
+                                  @Value("${spring.jpa.properties.hibernate.default_schema:}") String schema) {
+        this.props = props;
+        this.objectMapper = objectMapper;
+        this.appliedPairs = appliedPairs;
+        this.applicationVersions = applicationVersions;
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.table = (schema.isBlank() ? "" : schema + ".") + "applications";
+        this.queue = new LinkedBlockingQueue<>(props.getQueueCapacity());
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(props.getStatusMaxSize())
+                .expireAfterWrite(props.getStatusRetention())
+                .build();
+    }
+
+    public record IntakeRecord(String provisionalId, Long jobId, Long applicantId, IntakeState state,
+                               Long applicationId, String detail) {
+    }
+
+    public boolean isEnabled() {
+        return props.isEnabled();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        if (!props.isEnabled()) {
+            return;
+        }
+        journal = new IntakeJournal(Path.of(props.getJournalPath()), objectMapper, props.isJournalSync());
+        List<PendingApplication> outstanding = journal.outstanding();
+
+        for (PendingApplication application : outstanding) {
+            record(application, IntakeState.QUEUED, null, "Recovered from journal");
+        }
+        journalDirty = !outstanding.isEmpty();
+        running = true;
+        // the writer replays the recovered applications before it looks at the queue, so the
+        // journal cannot be truncated while they are still unsaved
+        writer = new Thread(() -> drain(outstanding), "application-intake-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Application intake started; replaying {} journaled applications", outstanding.size());
+    }
+
+    public PendingApplication submit(Long jobId, Long applicantId, String resumeUrl) {
+        if (!running) {
+            rejected.increment();
+            throw new ServiceOverloadedException("Application intake is not accepting submissions yet",
+                    props.getRetryAfter().toSeconds());
+        }
+        PendingApplication application = new PendingApplication(UUID.randomUUID().toString(), jobId, applicantId,
+                resumeUrl, LocalDateTime.now());
+
+        journalLock.lock();
+        try {
+            if (queue.remainingCapacity() == 0) {
+                rejected.increment();
+                throw new ServiceOverloadedException("Too many applications are waiting to be saved, please retry shortly",
+                        Math.max(1, props.getRetryAfter().toSeconds()));
+            }
+            journal.accepted(application);
+            journalDirty = true;
+            // only known once it is journaled, so a failed write leaves no id to look up
+            record(application, IntakeState.QUEUED, null, null);
+            // only the writer removes elements and we hold the lock, so there is room
+            queue.add(application);
+        } finally {
+            journalLock.unlock();
+        }
+
+        accepted.increment();
+        appliedPairs.add(jobId, applicantId);
+        return application;
+    }
+
+    public IntakeRecord status(String provisionalId) {
+        return statuses.getIfPresent(provisionalId);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", props.isEnabled());
+        stats.put("running", running);
+        stats.put("queueDepth", queue.size());
+        stats.put("queueCapacity", props.getQueueCapacity());
+        stats.put("accepted", accepted.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("persisted", persisted.sum());
+        stats.put("duplicates", duplicates.sum());
+        stats.put("failed", failed.sum());
+        return stats;
+    }
+
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        if (journal != null) {
+            journal.close();
+        }
+        // anything still queued is in the journal and is replayed on the next start
+    }
+
+    private void drain(List<PendingApplication> recovered) {
+        try {
+            for (int from = 0; from < recovered.size() && running; from += props.getBatchSize()) {
+                int to = Math.min(from + props.getBatchSize(), recovered.size());
+                persistWithRetry(new ArrayList<>(recovered.subList(from, to)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        List<PendingApplication> batch = new ArrayList<>(props.getBatchSize());
+        while (running) {
+            try {
+                PendingApplication first = queue.poll(props.getMaxBatchDelay().toMillis(), TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, props.getBatchSize() - 1);
+                    persistWithRetry(batch);
+                    batch.clear();
+                }
+                truncateJournalIfIdle();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Application intake writer error", e);
+            }
+        }
+    }
+
+    private void persistWithRetry(List<PendingApplication> batch) throws InterruptedException {
+        long backoff = 500;
+        while (true) {
+            try {
+                settle(batch, insert(batch));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // a row references a job or user that no longer exists; isolate it
+                persistOneByOne(batch);
+                return;
+            } catch (DataAccessException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Intake batch of {} failed, retrying in {} ms: {}", batch.size(), backoff, e.getMessage());
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    private void persistOneByOne(List<PendingApplication> batch) {
+        List<String> settled = new ArrayList<>();
+        for (PendingApplication application : batch) {
+            try {
+                Map<Pair, Long> ids = insert(List.of(application));
+                settleOne(application, ids.remove(new Pair(application.jobId(), application.applicantId())));
+            } catch (DataIntegrityViolationException e) {
+                failed.increment();
+                record(application, IntakeState.FAILED, null, "Rejected by the database: " + e.getMostSpecificCause().getMessage());
+            }
+            settled.add(application.provisionalId());
+        }
+        markDone(settled);
+    }
+
+    /**
+     * Returns the new application id keyed by (job, applicant) for every row inserted;
+     * rows skipped by the unique constraint are absent.
+     */
+    private Map<Pair, Long> insert(List<PendingApplication> batch) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                .append(" (job_id, applicant_id, resume_url, status, applied_at) VALUES ");
+        List<Object> args = new ArrayList<>(batch.size() * 5);
+        for (int i = 0; i < batch.size(); i++) {
+            PendingApplication application = batch.get(i);
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+            args.add(application.jobId());
+            args.add(application.applicantId());
+            args.add(application.resumeUrl());
+            args.add(ApplicationStatus.APPLIED.name());
+            args.add(Timestamp.valueOf(application.appliedAt()));
+        }
+        sql.append(" ON CONFLICT (job_id, applicant_id) DO NOTHING RETURNING id, job_id, applicant_id");
+
+        Map<Pair, Long> ids = new HashMap<>();
+        jdbc.query(sql.toString(), rs -> {
+            ids.put(new Pair(rs.getLong("job_id"), rs.getLong("applicant_id")), rs.getLong("id"));
+        }, args.toArray());
+        return ids;
+    }
+
+    private void settle(List<PendingApplication> batch, Map<Pair, Long> ids) {
+        List<String> settled = new ArrayList<>(batch.size());
+        for (PendingApplication application : batch) {
+            // the first of two identical pairs in a batch claims the id, the second is a duplicate
+            settleOne(application, ids.remove(new Pair(application.jobId(), application.applicantId())));
+            settled.add(application.provisionalId());
+        }
+        markDone(settled);
+    }
+
+    private void settleOne(PendingApplication application, Long applicationId) {
+        if (applicationId != null) {
+            persisted.increment();
+            applicationVersions.bumpAfterCommit(application.applicantId());
+            record(application, IntakeState.PERSISTED, applicationId, null);
+        } else {
+            duplicates.increment();
+            record(application, IntakeState.DUPLICATE, null, "You have already applied to this job");
+        }
+    }
+
+    private void markDone(List<String> provisionalIds) {
+        journalLock.lock();
+        try {
+            journal.done(provisionalIds);
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    private void truncateJournalIfIdle() {
+        journalLock.lock();
+        try {
+            if (journalDirty && queue.isEmpty()) {
+                journal.truncate();
+                journalDirty = false;
+            }
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    private void record(PendingApplication application, IntakeState state, Long applicationId, String detail) {
+        statuses.put(application.provisionalId(), new IntakeRecord(application.provisionalId(), application.jobId(),
+                application.applicantId(), state, applicationId, detail));
+    }
+
+    private record Pair(long jobId, long applicantId) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.luminary.portal.service.intake;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only spill file for the intake queue. Every accepted application is written as
+ * an {@code A} line before it is acknowledged, and a {@code D} line is appended once the
+ * writer has settled it. On startup, {@code A} lines without a matching {@code D} are
+ * handed back to the queue. The file is truncated whenever nothing is outstanding.
+ * Callers serialize access.
+ */
+@Slf4j
+class IntakeJournal implements AutoCloseable {
+    private static final String ACCEPTED = "A\t";
+    private static final String DONE = "D\t";
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final boolean sync;
+    private final FileChannel channel;
+
+    IntakeJournal(Path path, ObjectMapper objectMapper, boolean sync) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.sync = sync;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    List<PendingApplication> outstanding() throws IOException {
+        Map<String, PendingApplication> pending = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.startsWith(ACCEPTED)) {
+                try {
+                    PendingApplication application = objectMapper.readValue(line.substring(2), PendingApplication.class);
+                    pending.put(application.provisionalId(), application);
+                } catch (IOException e) {
+                    // a torn last line from a crash mid-write was never acknowledged
+                    log.warn("Skipping unreadable intake journal line: {}", e.getMessage());
+                }
+            } else if (line.startsWith(DONE)) {
+                pending.remove(line.substring(2));
+            }
+        }
+        return List.copyOf(pending.values());
+    }
+
+    void accepted(PendingApplication application) {
+        try {
+            write(ACCEPTED + objectMapper.writeValueAsString(application) + "\n", sync);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not journal application", e);
+        }
+    }
+
+    void done(Collection<String> provisionalIds) {
+        if (provisionalIds.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        provisionalIds.forEach(id -> lines.append(DONE).append(id).append('\n'));
+        try {
+            write(lines.toString(), false);
+        } catch (IOException e) {
+            // replay re-inserts these, and ON CONFLICT makes that harmless
+            log.warn("Could not journal {} settled applications: {}", provisionalIds.size(), e.getMessage());
+        }
+    }
+
+    void truncate() {
+        try {
+            channel.truncate(0);
+            channel.force(true);
+        } catch (IOException e) {
+            log.warn("Could not truncate intake journal: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void write(String text, boolean force) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (force) {
+            channel.force(false);
+        }
+    }
+}
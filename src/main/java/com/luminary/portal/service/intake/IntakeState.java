@@ -0,0 +1,8 @@
+package com.luminary.portal.service.intake;
+
+public enum IntakeState {
+    QUEUED,
+    PERSISTED,
+    DUPLICATE,
+    FAILED
+}
@@ -0,0 +1,10 @@
+package com.luminary.portal.service.intake;
+
+import java.time.LocalDateTime;
+
+public record PendingApplication(String provisionalId,
+                                 Long jobId,
+                                 Long applicantId,
+                                 String resumeUrl,
+                                 LocalDateTime appliedAt) {
+}
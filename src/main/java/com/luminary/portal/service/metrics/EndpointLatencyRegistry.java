@@ -0,0 +1,190 @@
+package com.luminary.portal.service.metrics;
+
+import com.luminary.portal.config.LatencyMetricsProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histograms per endpoint and status class, each kept twice: since start, and
+ * over a sliding window made of time slices that are recycled as they fall out of it.
+ */
+@Component
+public class EndpointLatencyRegistry {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String METRIC = "luminary_http_server_requests_seconds";
+
+    private final LatencyMetricsProperties props;
+    private final int slices;
+    private final long sliceNanos;
+    private final long startedNanos = System.nanoTime();
+    private final Map<Series, SeriesStats> series = new ConcurrentHashMap<>();
+
+    public enum View {
+        WINDOW, TOTAL
+    }
+
+    /** {@code endpoint} is the HTTP method and the matched route pattern. */
+    public record Series(String endpoint, String handler, String statusClass) {
+    }
+
+    public EndpointLatencyRegistry(LatencyMetricsProperties props) {
+        this.props = props;
+        this.slices = Math.max(2, props.getWindowSlices());
+        this.sliceNanos = Math.max(1, props.getWindow().toNanos() / slices);
+    }
+
+    public boolean isEnabled() {
+        return props.isEnabled();
+    }
+
+    public void record(String endpoint, String handler, int status, long durationNanos) {
+        long now = System.nanoTime();
+        series.computeIfAbsent(new Series(endpoint, handler, (status / 100) + "xx"), key -> new SeriesStats())
+                .record(durationNanos / 1_000, epochAt(now));
+    }
+
+    public Map<String, Object> report(View view) {
+        long now = System.nanoTime();
+        double seconds = coveredSeconds(view, now);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        series.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(Series::endpoint).thenComparing(Series::statusClass)))
+                .forEach(entry -> {
+                    Series key = entry.getKey();
+                    LatencyHistogram.Snapshot snapshot = entry.getValue().snapshot(view, epochAt(now));
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> endpoint = (Map<String, Object>) endpoints.computeIfAbsent(key.endpoint(), k -> {
+                        Map<String, Object> created = new LinkedHashMap<>();
+                        created.put("handler", key.handler());
+                        created.put("statuses", new LinkedHashMap<String, Object>());
+                        return created;
+                    });
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> statuses = (Map<String, Object>) endpoint.get("statuses");
+                    statuses.put(key.statusClass(), summarize(snapshot, seconds));
+                });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("view", view.name().toLowerCase(Locale.ROOT));
+        report.put("seconds", seconds);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    /**
+     * Prometheus text exposition: since-start values as a summary with {@code _count} and
+     * {@code _sum}, window percentiles and throughput as gauges.
+     */
+    public String prometheus() {
+        long now = System.nanoTime();
+        long epoch = epochAt(now);
+        double windowSeconds = coveredSeconds(View.WINDOW, now);
+
+        StringBuilder total = new StringBuilder()
+                .append("# HELP ").append(METRIC).append(" Request latency per endpoint since start\n")
+                .append("# TYPE ").append(METRIC).append(" summary\n");
+        StringBuilder window = new StringBuilder()
+                .append("# HELP ").append(METRIC).append("_window Request latency per endpoint over the sliding window\n")
+                .append("# TYPE ").append(METRIC).append("_window gauge\n");
+        StringBuilder rate = new StringBuilder()
+                .append("# HELP luminary_http_server_requests_per_second Throughput per endpoint over the sliding window\n")
+                .append("# TYPE luminary_http_server_requests_per_second gauge\n");
+
+        series.forEach((key, stats) -> {
+            String labels = "endpoint=\"" + escape(key.endpoint()) + "\",handler=\"" + escape(key.handler())
+                    + "\",status=\"" + key.statusClass() + "\"";
+
+            LatencyHistogram.Snapshot sinceStart = stats.snapshot(View.TOTAL, epoch);
+            for (double percentile : PERCENTILES) {
+                total.append(METRIC).append('{').append(labels).append(",quantile=\"").append(percentile / 100)
+                        .append("\"} ").append(sinceStart.percentileMicros(percentile) / 1e6).append('\n');
+            }
+            total.append(METRIC).append("_count{").append(labels).append("} ").append(sinceStart.count()).append('\n');
+            total.append(METRIC).append("_sum{").append(labels).append("} ").append(sinceStart.sumMicros() / 1e6).append('\n');
+
+            LatencyHistogram.Snapshot recent = stats.snapshot(View.WINDOW, epoch);
+            for (double percentile : PERCENTILES) {
+                window.append(METRIC).append("_window{").append(labels).append(",quantile=\"").append(percentile / 100)
+                        .append("\"} ").append(recent.percentileMicros(percentile) / 1e6).append('\n');
+            }
+            rate.append("luminary_http_server_requests_per_second{").append(labels).append("} ")
+                    .append(windowSeconds > 0 ? recent.count() / windowSeconds : 0).append('\n');
+        });
+
+        return total.append(window).append(rate).toString();
+    }
+
+    private Map<String, Object> summarize(LatencyHistogram.Snapshot snapshot, double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", snapshot.count());
+        summary.put("throughputPerSecond", seconds > 0 ? snapshot.count() / seconds : 0);
+        summary.put("meanMs", snapshot.count() > 0 ? snapshot.sumMicros() / 1000.0 / snapshot.count() : 0);
+        summary.put("p50Ms", snapshot.percentileMicros(50) / 1000.0);
+        summary.put("p90Ms", snapshot.percentileMicros(90) / 1000.0);
+        summary.put("p99Ms", snapshot.percentileMicros(99) / 1000.0);
+        summary.put("p999Ms", snapshot.percentileMicros(99.9) / 1000.0);
+        summary.put("maxMs", snapshot.maxMicros() / 1000.0);
+        return summary;
+    }
+
+    private long epochAt(long nanoTime) {
+        return (nanoTime - startedNanos) / sliceNanos;
+    }
+
+    private double coveredSeconds(View view, long now) {
+        long elapsed = now - startedNanos;
+        if (view == View.TOTAL) {
+            return elapsed / 1e9;
+        }
+        long intoSlice = elapsed % sliceNanos;
+        return Math.min(elapsed, (slices - 1) * sliceNanos + intoSlice) / 1e9;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private final class SeriesStats {
+        private final LatencyHistogram sinceStart = new LatencyHistogram();
+        private final LatencyHistogram[] window = new LatencyHistogram[slices];
+        private final AtomicLongArray sliceEpochs = new AtomicLongArray(slices);
+
+        SeriesStats() {
+            for (int i = 0; i < slices; i++) {
+                window[i] = new LatencyHistogram();
+            }
+        }
+
+        void record(long micros, long epoch) {
+            sinceStart.record(micros);
+
+            int slice = (int) (epoch % slices);
+            long sliceEpoch = sliceEpochs.get(slice);
+            // the first writer into a recycled slice clears what it held a full window ago
+            if (sliceEpoch < epoch && sliceEpochs.compareAndSet(slice, sliceEpoch, epoch)) {
+                window[slice].reset();
+            }
+            window[slice].record(micros);
+        }
+
+        LatencyHistogram.Snapshot snapshot(View view, long epoch) {
+            if (view == View.TOTAL) {
+                return sinceStart.snapshot();
+            }
+            LatencyHistogram.Snapshot merged = LatencyHistogram.Snapshot.empty();
+            for (int i = 0; i < slices; i++) {
+                if (epoch - sliceEpochs.get(i) < slices) {
+                    merged.merge(window[i].snapshot());
+                }
+            }
+            return merged;
+        }
+    }
+}
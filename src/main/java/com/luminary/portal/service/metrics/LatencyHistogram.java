@@ -0,0 +1,124 @@
+package com.luminary.portal.service.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram over microseconds with HDR-style log-linear buckets: values
+ * below 32 get a bucket each, and every power of two above that is split into 16 equal
+ * buckets, so any recorded value is reported within 1/16 (6.25%) of its true value.
+ * Recording is two atomic adds and a max update; percentiles are read from a copy of
+ * the counts.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Largest tracked value is just under 2^36 us (about 19 hours); larger values are clamped. */
+    private static final int MAX_MAGNITUDE = 36;
+    private static final long MAX_VALUE = (1L << MAX_MAGNITUDE) - 1;
+    static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong sumMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void record(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_VALUE);
+        counts.incrementAndGet(bucketOf(value));
+        sumMicros.addAndGet(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    /** Clears the counts; records racing with the reset may land on either side of it. */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        sumMicros.set(0);
+        maxMicros.set(0);
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy, sumMicros.get(), maxMicros.get());
+    }
+
+    static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /** Highest value that falls into the bucket, as HdrHistogram reports it. */
+    static long highestValueIn(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long mantissa = bucket - (long) shift * SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /** Point-in-time copy of a histogram; snapshots of window slices can be merged. */
+    public static final class Snapshot {
+        private final long[] counts;
+        private long count;
+        private long sumMicros;
+        private long maxMicros;
+
+        Snapshot(long[] counts, long sumMicros, long maxMicros) {
+            this.counts = counts;
+            for (long bucketCount : counts) {
+                this.count += bucketCount;
+            }
+            this.sumMicros = sumMicros;
+            this.maxMicros = maxMicros;
+        }
+
+        public static Snapshot empty() {
+            return new Snapshot(new long[BUCKET_COUNT], 0, 0);
+        }
+
+        public Snapshot merge(Snapshot other) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                counts[i] += other.counts[i];
+            }
+            count += other.count;
+            sumMicros += other.sumMicros;
+            maxMicros = Math.max(maxMicros, other.maxMicros);
+            return this;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long sumMicros() {
+            return sumMicros;
+        }
+
+        public long maxMicros() {
+            return maxMicros;
+        }
+
+        public long percentileMicros(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueIn(i), maxMicros);
+                }
+            }
+            return maxMicros;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.luminary.portal.service.metrics;
+
+/**
+ * Statement, row and time totals for the work running on the current thread. A scope is
+ * opened per HTTP request by {@code SqlStatsFilter} (or around a block of code in tests);
+ * the counting DataSource only reports into an open scope and skips its wrappers otherwise.
+ */
+public final class SqlStatementCounter {
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static Scope open() {
+        Stats previous = CURRENT.get();
+        Stats stats = new Stats();
+        CURRENT.set(stats);
+        return new Scope(stats, previous);
+    }
+
+    /** Totals of the innermost open scope on this thread, or null when none is open. */
+    public static Stats current() {
+        return CURRENT.get();
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Stats stats;
+        private final Stats previous;
+
+        private Scope(Stats stats, Stats previous) {
+            this.stats = stats;
+            this.previous = previous;
+        }
+
+        public Stats stats() {
+            return stats;
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) {
+                previous.add(stats);
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /** Only touched by the thread that owns the scope, so plain fields are enough. */
+    public static final class Stats {
+        private int statements;
+        private long rows;
+        private long nanos;
+
+        public void statement(long elapsedNanos) {
+            statements++;
+            nanos += elapsedNanos;
+        }
+
+        public void rows(long count) {
+            rows += count;
+        }
+
+        void add(Stats other) {
+            statements += other.statements;
+            rows += other.rows;
+            nanos += other.nanos;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public String toHeaderValue() {
+            return "statements=" + statements + ";rows=" + rows + ";time_ms=" + nanos / 1_000_000.0;
+        }
+    }
+}
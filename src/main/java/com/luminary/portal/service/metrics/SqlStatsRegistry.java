@@ -0,0 +1,63 @@
+package com.luminary.portal.service.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint totals of the SQL run by requests, so an endpoint whose statements per
+ * request creep up (an N+1 coming back) stands out without turning on SQL logging.
+ */
+@Component
+public class SqlStatsRegistry {
+    private final Map<String, EndpointSql> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, SqlStatementCounter.Stats stats) {
+        endpoints.computeIfAbsent(endpoint, key -> new EndpointSql()).record(stats);
+    }
+
+    public Map<String, Object> report() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        endpoints.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.naturalOrder()))
+                .forEach(entry -> report.put(entry.getKey(), entry.getValue().summary()));
+        return report;
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static final class EndpointSql {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+
+        void record(SqlStatementCounter.Stats stats) {
+            requests.increment();
+            statements.add(stats.getStatements());
+            rows.add(stats.getRows());
+            nanos.add(stats.getNanos());
+            maxStatements.accumulateAndGet(stats.getStatements(), Math::max);
+        }
+
+        Map<String, Object> summary() {
+            long requestCount = requests.sum();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", requestCount);
+            summary.put("statements", statements.sum());
+            summary.put("statementsPerRequest", requestCount == 0 ? 0 : (double) statements.sum() / requestCount);
+            summary.put("maxStatements", maxStatements.get());
+            summary.put("rowsPerRequest", requestCount == 0 ? 0 : (double) rows.sum() / requestCount);
+            summary.put("sqlMsPerRequest", requestCount == 0 ? 0 : nanos.sum() / 1e6 / requestCount);
+            return summary;
+        }
+    }
+}
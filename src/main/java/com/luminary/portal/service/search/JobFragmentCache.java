@@ -0,0 +1,87 @@
+package com.luminary.portal.service.search;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.luminary.portal.config.JobCacheProperties;
+import com.luminary.portal.dto.job.JobPostSummary;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Serialized JSON of {@link JobPostSummary} rows keyed by job id, so popular jobs are
+ * rendered once and spliced into every page that lists them. An entry is only used while
+ * it was rendered from a summary equal to the one being written, which keeps a missed
+ * invalidation from ever serving outdated JSON; {@code JobPostService} still invalidates
+ * on writes so changed jobs free their slot right away.
+ */
+@Component
+public class JobFragmentCache {
+    private final JobCacheProperties props;
+    private final Cache<Long, Fragment> fragments;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private record Fragment(JobPostSummary source, SerializableString json) {
+    }
+
+    public JobFragmentCache(JobCacheProperties props) {
+        this.props = props;
+        this.fragments = Caffeine.newBuilder()
+                .maximumSize(props.getFragmentMaxSize())
+                .expireAfterAccess(props.getTtl())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return props.isFragmentsEnabled();
+    }
+
+    public SerializableString get(JobPostSummary summary, Function<JobPostSummary, String> render) {
+        if (summary.getId() == null) {
+            return prepare(render.apply(summary));
+        }
+
+        Fragment cached = fragments.getIfPresent(summary.getId());
+        if (cached != null && cached.source().equals(summary)) {
+            hits.increment();
+            return cached.json();
+        }
+
+        misses.increment();
+        // copy the summary so later changes to the caller's instance cannot alias the key
+        Fragment fresh = new Fragment(summary.toBuilder().build(), prepare(render.apply(summary)));
+        fragments.put(summary.getId(), fresh);
+        return fresh.json();
+    }
+
+    public void invalidate(Long jobId) {
+        fragments.invalidate(jobId);
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", isEnabled());
+        result.put("size", fragments.estimatedSize());
+        result.put("hits", hitCount);
+        result.put("misses", missCount);
+        result.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        return result;
+    }
+
+    private static SerializableString prepare(String json) {
+        SerializedString fragment = new SerializedString(json);
+        fragment.asUnquotedUTF8(); // encode once up front instead of on the first response
+        return fragment;
+    }
+}
@@ -0,0 +1,301 @@
+package com.luminary.portal.service.search;
+
+import com.luminary.portal.config.SearchIndexProperties;
+import com.luminary.portal.entity.JobPost;
+import com.luminary.portal.repository.JobPostRepository;
+import com.luminary.portal.repository.JobTextView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over job titles and descriptions used to resolve search keywords
+ * without scanning the {@code job_posts} table.
+ * <p>
+ * Text is split into lower-cased alphanumeric tokens; each token maps to a sorted
+ * {@code int[]} of job ids. A keyword matches a job when every keyword token is a
+ * prefix of some token in the job's title or description. The index is built in the
+ * background once the application is ready and kept current by {@code JobPostService};
+ * until it is ready callers fall back to the database query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobKeywordIndex {
+    private static final int[] NO_MATCHES = new int[0];
+
+    private final JobPostRepository jobRepo;
+    private final SearchIndexProperties properties;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> postingsByTerm = new TreeMap<>();
+    private final Map<Integer, String[]> termsByJob = new HashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!properties.isEnabled()) {
+            log.info("Job keyword index is disabled");
+            return;
+        }
+        Thread loader = new Thread(this::rebuild, "job-keyword-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the sorted ids of jobs matching every token of the keyword, or {@code null}
+     * when the keyword has no indexable tokens and must be matched by the database.
+     */
+    public int[] search(String keyword) {
+        List<String> queryTerms = tokenize(keyword);
+        if (queryTerms.isEmpty()) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] result = null;
+            for (String term : queryTerms) {
+                int[] matches = matchPrefix(term);
+                result = result == null ? matches : intersect(result, matches);
+                if (result.length == 0) {
+                    return NO_MATCHES;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void index(JobPost job) {
+        index(job.getId(), job.getTitle(), job.getDescription());
+    }
+
+    public void index(Long jobId, String title, String description) {
+        if (!properties.isEnabled() || jobId == null) {
+            return;
+        }
+        int id = Math.toIntExact(jobId);
+        String[] terms = distinctTerms(title, description);
+
+        lock.writeLock().lock();
+        try {
+            String[] previous = termsByJob.put(id, terms);
+            if (previous != null) {
+                if (Arrays.equals(previous, terms)) {
+                    return;
+                }
+                unlink(id, previous);
+            }
+            for (String term : terms) {
+                postingsByTerm.computeIfAbsent(term, t -> new Postings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        if (!properties.isEnabled() || jobId == null) {
+            return;
+        }
+        int id = Math.toIntExact(jobId);
+
+        lock.writeLock().lock();
+        try {
+            String[] previous = termsByJob.remove(id);
+            if (previous != null) {
+                unlink(id, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void rebuild() {
+        long started = System.nanoTime();
+        long afterId = 0;
+        long indexed = 0;
+        try {
+            List<JobTextView> batch;
+            do {
+                batch = jobRepo.findTextAfter(afterId, PageRequest.ofSize(properties.getLoadBatchSize()));
+                for (JobTextView job : batch) {
+                    index(job.getId(), job.getTitle(), job.getDescription());
+                    afterId = job.getId();
+                }
+                indexed += batch.size();
+            } while (batch.size() == properties.getLoadBatchSize());
+
+            ready = true;
+            log.info("Job keyword index built: {} jobs, {} terms in {} ms",
+                    indexed, termCount(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Failed to build job keyword index, keyword search stays on the database", e);
+        }
+    }
+
+    int termCount() {
+        lock.readLock().lock();
+        try {
+            return postingsByTerm.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits text into the lower-cased alphanumeric terms the index is keyed on. The
+     * database fallback splits keywords the same way so both paths agree on what a
+     * multi-word keyword means.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean tokenChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static String[] distinctTerms(String title, String description) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(title));
+        terms.addAll(tokenize(description));
+        String[] sorted = terms.toArray(new String[0]);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private void unlink(int id, String[] terms) {
+        for (String term : terms) {
+            Postings postings = postingsByTerm.get(term);
+            if (postings != null && postings.remove(id) && postings.size == 0) {
+                postingsByTerm.remove(term);
+            }
+        }
+    }
+
+    private int[] matchPrefix(String prefix) {
+        var matching = postingsByTerm.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        if (matching.isEmpty()) {
+            return NO_MATCHES;
+        }
+        if (matching.size() == 1) {
+            return matching.values().iterator().next().toArray();
+        }
+
+        int total = 0;
+        for (Postings postings : matching.values()) {
+            total += postings.size;
+        }
+        int[] union = new int[total];
+        int offset = 0;
+        for (Postings postings : matching.values()) {
+            System.arraycopy(postings.ids, 0, union, offset, postings.size);
+            offset += postings.size;
+        }
+        Arrays.sort(union);
+
+        int distinct = 0;
+        for (int i = 0; i < union.length; i++) {
+            if (i == 0 || union[i] != union[i - 1]) {
+                union[distinct++] = union[i];
+            }
+        }
+        return Arrays.copyOf(union, distinct);
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[n++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Sorted, growable posting list of job ids. Ids are mostly appended in increasing
+     * order, so inserts are amortised O(1).
+     */
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int pos = Arrays.binarySearch(ids, 0, size, id);
+                if (pos >= 0) {
+                    return;
+                }
+                int insertAt = -pos - 1;
+                grow();
+                System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+                ids[insertAt] = id;
+            } else {
+                grow();
+                ids[size] = id;
+            }
+            size++;
+        }
+
+        boolean remove(int id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        private void grow() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+    }
+}
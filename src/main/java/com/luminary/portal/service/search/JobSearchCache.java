@@ -0,0 +1,84 @@
+package com.luminary.portal.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.luminary.portal.config.SearchCacheProperties;
+import com.luminary.portal.dto.job.JobSearchResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Search results keyed by {@link JobSearchKey}. A job write bumps the data version, so
+ * later requests build new keys and entries from the old version are never hit again;
+ * size and TTL bounds then age them out. Concurrent misses on one key compute it once.
+ */
+@Component
+public class JobSearchCache {
+    private final SearchCacheProperties props;
+    private final Cache<JobSearchKey, JobSearchResponse> results;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder hitNanos = new LongAdder();
+    private final LongAdder missNanos = new LongAdder();
+
+    public JobSearchCache(SearchCacheProperties props) {
+        this.props = props;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(props.getMaxSize())
+                .expireAfterWrite(props.getTtl())
+                .build();
+    }
+
+    public JobSearchResponse get(JobSearchKey key, Function<JobSearchKey, JobSearchResponse> search) {
+        long start = System.nanoTime();
+        if (!props.isEnabled()) {
+            JobSearchResponse response = search.apply(key);
+            missed(start);
+            return response;
+        }
+
+        boolean[] computed = {false};
+        JobSearchResponse response = results.get(key, k -> {
+            computed[0] = true;
+            return search.apply(k);
+        });
+
+        if (computed[0]) {
+            missed(start);
+        } else {
+            hits.increment();
+            hitNanos.add(System.nanoTime() - start);
+        }
+        return response;
+    }
+
+    public void invalidateAll() {
+        results.invalidateAll();
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", props.isEnabled());
+        stats.put("size", results.estimatedSize());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("avgHitMicros", hitCount == 0 ? 0.0 : hitNanos.sum() / 1_000.0 / hitCount);
+        stats.put("avgMissMillis", missCount == 0 ? 0.0 : missNanos.sum() / 1_000_000.0 / missCount);
+        return stats;
+    }
+
+    private void missed(long start) {
+        misses.increment();
+        missNanos.add(System.nanoTime() - start);
+    }
+}
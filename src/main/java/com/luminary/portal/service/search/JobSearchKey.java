@@ -0,0 +1,85 @@
+package com.luminary.portal.service.search;
+
+import com.luminary.portal.dto.search.PaginationMode;
+import com.luminary.portal.dto.search.TotalsMode;
+import com.luminary.portal.entity.enums.JobStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * Canonical form of a job search: blank filters dropped, text filters trimmed and
+ * lower-cased, defaults resolved. Two requests that run the same queries produce equal
+ * keys, and {@code dataVersion} ties the key to the job data it was computed against.
+ * {@code keywordIndexed} records whether the keyword index was ready to answer the keyword,
+ * so results matched by the database fallback are not served once the index takes over.
+ */
+public record JobSearchKey(long dataVersion,
+                           String keyword,
+                           boolean keywordIndexed,
+                           String location,
+                           JobStatus status,
+                           String companyName,
+                           String sortBy,
+                           boolean descending,
+                           int page,
+                           int size,
+                           boolean cursorMode,
+                           String cursor,
+                           TotalsMode totalsMode) {
+
+    public static JobSearchKey of(long dataVersion, String keyword, boolean keywordIndexReady,
+                                  String location, String status, String companyName,
+                                  String sortBy, String sortDir, int page, int size,
+                                  PaginationMode mode, String cursor, TotalsMode totalsMode) {
+        String normalizedStatus = normalize(status);
+        String normalizedKeyword = normalize(keyword);
+        boolean cursorMode = mode == PaginationMode.CURSOR || cursor != null;
+        return new JobSearchKey(dataVersion,
+                normalizedKeyword,
+                normalizedKeyword != null && keywordIndexReady,
+                normalize(location),
+                normalizedStatus != null ? JobStatus.valueOf(normalizedStatus.toUpperCase(Locale.ROOT)) : null,
+                normalize(companyName),
+                sortBy,
+                sortDir == null || !sortDir.equalsIgnoreCase("asc"),
+                cursorMode ? 0 : page,
+                size,
+                cursorMode,
+                cursor,
+                cursorMode ? TotalsMode.NONE : (totalsMode != null ? totalsMode : TotalsMode.EXACT));
+    }
+
+    /**
+     * Strong entity tag for the results of this search. The search is identified by a
+     * SHA-256 of its normalized filters, sort and paging, which is the same on every node and
+     * across restarts; {@code stamp} supplies the time and version part.
+     */
+    public String etag(String stamp) {
+        String canonical = String.join("\u0000", String.valueOf(keyword), String.valueOf(location),
+                status != null ? status.name() : "null", String.valueOf(companyName), String.valueOf(sortBy),
+                descending ? "desc" : "asc", Integer.toString(page), Integer.toString(size),
+                Boolean.toString(cursorMode), String.valueOf(cursor), totalsMode.name());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return "jobs-" + HexFormat.of().formatHex(digest, 0, 16) + "-" + stamp;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public boolean hasFilters() {
+        return keyword != null || location != null || status != null || companyName != null;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,59 @@
+package com.luminary.portal.service.search;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.luminary.portal.dto.job.JobPostSummary;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes a {@link JobPostSummary} as a raw fragment from {@link JobFragmentCache}, rendering
+ * it with Jackson's own bean serializer on a miss so the output is byte-for-byte what plain
+ * serialization would produce.
+ */
+public class JobSummaryFragmentSerializer extends StdSerializer<JobPostSummary> implements ResolvableSerializer {
+    private final JsonSerializer<Object> beanSerializer;
+    private final JobFragmentCache fragments;
+
+    public JobSummaryFragmentSerializer(JsonSerializer<Object> beanSerializer, JobFragmentCache fragments) {
+        super(JobPostSummary.class);
+        this.beanSerializer = beanSerializer;
+        this.fragments = fragments;
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (beanSerializer instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    @Override
+    public void serialize(JobPostSummary value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (!fragments.isEnabled() || gen.getCodec() == null) {
+            beanSerializer.serialize(value, gen, provider);
+            return;
+        }
+        try {
+            gen.writeRawValue(fragments.get(value, summary -> render(summary, gen, provider)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private String render(JobPostSummary summary, JsonGenerator gen, SerializerProvider provider) {
+        StringWriter out = new StringWriter(256);
+        try (JsonGenerator fragmentGen = gen.getCodec().getFactory().createGenerator(out)) {
+            beanSerializer.serialize(summary, fragmentGen, provider);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+}
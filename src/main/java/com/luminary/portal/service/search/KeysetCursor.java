@@ -0,0 +1,39 @@
+package com.luminary.portal.service.search;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor: the sort key and direction of the listing plus the
+ * sort value and id of the last row returned. The next page seeks past that row
+ * instead of skipping an OFFSET, so every page costs the same.
+ */
+public record KeysetCursor(String sortKey, boolean descending, LocalDateTime value, Long id) {
+
+    public String encode() {
+        String raw = sortKey + "|" + (descending ? "desc" : "asc") + "|" + value + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor, String sortKey, boolean descending) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+        if (!parts[0].equals(sortKey) || descending != parts[1].equals("desc")) {
+            throw new IllegalArgumentException("Pagination cursor does not match the requested sort");
+        }
+        try {
+            return new KeysetCursor(sortKey, descending, LocalDateTime.parse(parts[2]), Long.valueOf(parts[3]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.luminary.portal.service.search;
+
+import com.luminary.portal.config.PaginationProperties;
+import com.luminary.portal.dto.PagedResponse;
+import com.luminary.portal.dto.search.TotalsMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Builds a {@link PagedResponse} from a slice, computing {@code totalItems} only as
+ * precisely as the requested {@link TotalsMode} asks for.
+ */
+@Component
+@RequiredArgsConstructor
+public class PageTotalsResolver {
+    private final PaginationProperties paginationProps;
+
+    public <T> PagedResponse<T> toPagedResponse(Slice<?> slice, List<T> content, TotalsMode totalsMode,
+                                               LongSupplier exactCount, Supplier<OptionalLong> estimatedCount) {
+        var response = PagedResponse.<T>builder()
+                .content(content)
+                .currentPage(slice.getNumber())
+                .hasNext(slice.hasNext());
+
+        TotalsMode requested = totalsMode != null ? totalsMode : TotalsMode.EXACT;
+        if (requested == TotalsMode.NONE) {
+            return response.totalsMode(TotalsMode.NONE).build();
+        }
+
+        long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+        long total;
+        TotalsMode produced = TotalsMode.EXACT;
+
+        if (!slice.hasNext() && (slice.hasContent() || slice.getNumber() == 0)) {
+            // the last page tells us the total without a count query
+            total = seen;
+        } else if (requested == TotalsMode.ESTIMATED) {
+            OptionalLong estimate = estimatedCount.get();
+            if (estimate.isPresent() && estimate.getAsLong() >= paginationProps.getExactCountThreshold()) {
+                total = Math.max(estimate.getAsLong(), slice.hasNext() ? seen + 1 : seen);
+                produced = TotalsMode.ESTIMATED;
+            } else {
+                total = exactCount.getAsLong();
+            }
+        } else {
+            total = exactCount.getAsLong();
+        }
+
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) total / slice.getSize());
+        return response
+                .totalItems(total)
+                .totalPages(totalPages)
+                .totalsMode(produced)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.luminary.portal.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luminary.portal.config.AdmissionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ConnectionAdmissionFilterTest {
+    private ConnectionAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties props = new AdmissionProperties();
+        props.setEnabled(true);
+        props.setPermits(1);
+        props.setAcquireTimeout(Duration.ofMillis(10));
+        filter = new ConnectionAdmissionFilter(props, mock(DataSource.class), new ObjectMapper());
+    }
+
+    @Test
+    void permitIsReleasedWhenTheRequestReturns() throws Exception {
+        filter.doFilter(apiRequest(), new MockHttpServletResponse(), (request, response) -> { });
+
+        assertThat(filter.stats()).containsEntry("available", 1);
+    }
+
+    @Test
+    void asyncRequestHoldsItsPermitUntilTheDispatchCompletes() throws Exception {
+        MockHttpServletRequest request = apiRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+        assertThat(filter.stats()).containsEntry("available", 0);
+
+        MockHttpServletResponse busy = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), busy, (req, res) -> { });
+        assertThat(busy.getStatus()).isEqualTo(503);
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertThat(filter.stats()).containsEntry("available", 1);
+    }
+
+    private static MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/jobs");
+    }
+}
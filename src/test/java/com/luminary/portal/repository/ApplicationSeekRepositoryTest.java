@@ -0,0 +1,123 @@
+package com.luminary.portal.repository;
+
+import com.luminary.portal.dto.ApplicationResponse;
+import com.luminary.portal.entity.Application;
+import com.luminary.portal.entity.Company;
+import com.luminary.portal.entity.JobPost;
+import com.luminary.portal.entity.User;
+import com.luminary.portal.entity.enums.ApplicationStatus;
+import com.luminary.portal.entity.enums.JobStatus;
+import com.luminary.portal.entity.enums.Role;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true")
+@Import(ApplicationSeekRepository.class)
+class ApplicationSeekRepositoryTest {
+
+    @Autowired
+    private ApplicationSeekRepository seekRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long jobId;
+
+    @BeforeEach
+    void seed() {
+        User employer = persistUser("Employer", "seek-employer@example.com", Role.EMPLOYER);
+        Company company = Company.builder().name("Seek Company").owner(employer).build();
+        entityManager.persist(company);
+        JobPost job = JobPost.builder()
+                .title("Engineer")
+                .status(JobStatus.OPEN)
+                .company(company)
+                .postedBy(employer)
+                .postedDate(LocalDateTime.now())
+                .build();
+        entityManager.persist(job);
+        jobId = job.getId();
+
+        // pairs of applications share a timestamp, so pages must break ties on the id
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 9, 0);
+        for (int i = 0; i < 25; i++) {
+            User seeker = persistUser("Seeker " + i, "seek-seeker" + i + "@example.com", Role.JOB_SEEKER);
+            entityManager.persist(Application.builder()
+                    .job(job)
+                    .applicant(seeker)
+                    .status(i % 5 == 0 ? ApplicationStatus.REJECTED : ApplicationStatus.APPLIED)
+                    .appliedAt(start.plusMinutes(i / 2))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void descendingPagesVisitEveryApplicationOnce() {
+        List<ApplicationResponse> seen = walk(null, true);
+
+        assertThat(seen).hasSize(25);
+        assertThat(seen).extracting(ApplicationResponse::getId).doesNotHaveDuplicates();
+        for (int i = 1; i < seen.size(); i++) {
+            ApplicationResponse previous = seen.get(i - 1);
+            ApplicationResponse current = seen.get(i);
+            assertThat(current.getAppliedAt()).isBeforeOrEqualTo(previous.getAppliedAt());
+            if (current.getAppliedAt().equals(previous.getAppliedAt())) {
+                assertThat(current.getId()).isLessThan(previous.getId());
+            }
+        }
+    }
+
+    @Test
+    void ascendingPagesWithStatusKeepTheFilter() {
+        List<ApplicationResponse> seen = walk(ApplicationStatus.APPLIED, false);
+
+        assertThat(seen).hasSize(20).allSatisfy(response -> {
+            assertThat(response.getStatus()).isEqualTo(ApplicationStatus.APPLIED);
+            assertThat(response.getJobTitle()).isEqualTo("Engineer");
+            assertThat(response.getApplicantName()).startsWith("Seeker ");
+        });
+        assertThat(seen).extracting(ApplicationResponse::getId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void nextPageSeeksWithARowValueComparison() {
+        String sql = seekRepo.seekStatement(jobId, null, true, LocalDateTime.now(), 1L, 11).sql();
+
+        assertThat(sql).contains("(a.applied_at, a.id) < (?, ?)").doesNotContain("IS NULL");
+        assertThat(seekRepo.seekStatement(jobId, null, true, null, null, 11).sql()).doesNotContain("a.applied_at, a.id)");
+    }
+
+    private List<ApplicationResponse> walk(ApplicationStatus status, boolean descending) {
+        List<ApplicationResponse> seen = new ArrayList<>();
+        List<ApplicationResponse> page = seekRepo.seek(jobId, status, descending, null, null, 10);
+        while (!page.isEmpty()) {
+            seen.addAll(page);
+            ApplicationResponse last = page.get(page.size() - 1);
+            page = seekRepo.seek(jobId, status, descending, last.getAppliedAt(), last.getId(), 10);
+        }
+        return seen;
+    }
+
+    private User persistUser(String name, String email, Role role) {
+        User user = User.builder()
+                .name(name)
+                .email(email)
+                .password("secret")
+                .role(role)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,103 @@
+package com.luminary.portal.repository;
+
+import com.luminary.portal.dto.ApplicationResponse;
+import com.luminary.portal.entity.Application;
+import com.luminary.portal.entity.Company;
+import com.luminary.portal.entity.JobPost;
+import com.luminary.portal.entity.User;
+import com.luminary.portal.entity.enums.ApplicationStatus;
+import com.luminary.portal.entity.enums.JobStatus;
+import com.luminary.portal.entity.enums.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+class JobPostRepositoryTest {
+
+    @Autowired
+    private ApplicationRepository appRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User seeker;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        seeker = persistUser("Seeker", "seeker@example.com", Role.JOB_SEEKER);
+
+        for (int c = 0; c < 3; c++) {
+            User employer = persistUser("Employer " + c, "employer" + c + "@example.com", Role.EMPLOYER);
+            Company company = Company.builder().name("Company " + c).owner(employer).build();
+            entityManager.persist(company);
+
+            for (int j = 0; j < 10; j++) {
+                JobPost job = JobPost.builder()
+                        .title("Engineer " + c + "-" + j)
+                        .description("Long description " + j)
+                        .location("Remote")
+                        .salary(1000.0 * j)
+                        .status(JobStatus.OPEN)
+                        .company(company)
+                        .postedBy(employer)
+                        .postedDate(now.minusMinutes(c * 10L + j))
+                        .build();
+                entityManager.persist(job);
+
+                entityManager.persist(Application.builder()
+                        .job(job)
+                        .applicant(seeker)
+                        .status(ApplicationStatus.APPLIED)
+                        .appliedAt(now.minusMinutes(j))
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void applicantListingIsLoadedInOneStatement() {
+        List<ApplicationResponse> applications = appRepo.findResponsesByApplicantId(seeker.getId());
+
+        assertThat(applications).hasSize(30);
+        assertThat(applications).allSatisfy(response -> {
+            assertThat(response.getJobTitle()).startsWith("Engineer ");
+            assertThat(response.getApplicantName()).isEqualTo("Seeker");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private User persistUser(String name, String email, Role role) {
+        User user = User.builder()
+                .name(name)
+                .email(email)
+                .password("secret")
+                .role(role)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
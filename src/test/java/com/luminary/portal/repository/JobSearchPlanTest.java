@@ -0,0 +1,160 @@
+package com.luminary.portal.repository;
+
+import com.luminary.portal.config.JobSearchIndexes;
+import com.luminary.portal.entity.enums.JobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks on a real PostgreSQL that each common filter shape of the compiled job search is
+ * planned on the index built for it. Skipped when no Docker daemon is available. Not
+ * transactional, since the indexes are built concurrently; the data is seeded once and
+ * shared by every test.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({JobSearchRepository.class, JobSearchIndexes.class, RowCountEstimator.class})
+class JobSearchPlanTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JobSearchRepository searchRepo;
+
+    @Autowired
+    private JobSearchIndexes searchIndexes;
+
+    @Autowired
+    private RowCountEstimator rowCountEstimator;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void seed() {
+        Long jobs = jdbc.queryForObject("SELECT COUNT(*) FROM jobportal.job_posts", Long.class);
+        if (jobs != null && jobs > 0) {
+            return;
+        }
+        jdbc.update("""
+                INSERT INTO jobportal.users (name, email, password, role)
+                SELECT 'Employer ' || g, 'plan-employer' || g || '@example.com', 'secret', 'EMPLOYER'
+                FROM generate_series(0, 49) g""");
+        jdbc.update("""
+                INSERT INTO jobportal.companies (name, owner_id)
+                SELECT 'Company ' || u.id, u.id FROM jobportal.users u WHERE u.email LIKE 'plan-employer%'""");
+        // 20k jobs a minute apart: 50 locations x 3 statuses and four rare titles
+        jdbc.update("""
+                INSERT INTO jobportal.job_posts (id, title, description, location, salary, company_id, posted_by,
+                                                 status, posted_date)
+                SELECT g,
+                       CASE WHEN g % 5000 = 0 THEN 'Quokka Wrangler ' || g
+                            ELSE (ARRAY['Engineer', 'Developer', 'Analyst', 'Designer', 'Manager'])[1 + g % 5] || ' ' || g
+                       END,
+                       'Description of job ' || g,
+                       'City ' || (g % 50),
+                       1000 * (g % 100),
+                       c.id, c.owner_id,
+                       (ARRAY['OPEN', 'CLOSED', 'DRAFT'])[1 + g % 3],
+                       TIMESTAMP '2026-01-01 00:00:00' - g * INTERVAL '1 minute'
+                FROM generate_series(1, 20000) g
+                JOIN (SELECT id, owner_id, ROW_NUMBER() OVER (ORDER BY id) - 1 AS n FROM jobportal.companies) c
+                    ON c.n = g % 50""");
+        searchIndexes.install();
+        jdbc.execute("ANALYZE jobportal.job_posts");
+        jdbc.execute("ANALYZE jobportal.companies");
+        jdbc.execute("ANALYZE jobportal.users");
+    }
+
+    @Test
+    void unfilteredPageWalksThePostedDateIndex() {
+        String plan = explainPage(new JobSearchFilter(null, null, null, null, null));
+
+        assertThat(plan).contains("idx_job_posts_posted_date_id").doesNotContain("Seq Scan on job_posts");
+    }
+
+    @Test
+    void statusFilterUsesTheStatusIndex() {
+        String plan = explainPage(new JobSearchFilter(null, null, null, JobStatus.OPEN, null));
+
+        assertThat(plan).contains("idx_job_posts_status_posted_date_id");
+    }
+
+    @Test
+    void locationFilterUsesTheLowerLocationIndex() {
+        String plan = explainPage(new JobSearchFilter(null, null, "City 7", null, null));
+
+        assertThat(plan).contains("idx_job_posts_location_posted_date_id");
+    }
+
+    @Test
+    void statusAndLocationUseTheCompositeIndex() {
+        String plan = explainPage(new JobSearchFilter(null, null, "City 7", JobStatus.OPEN, null));
+
+        assertThat(plan).contains("idx_job_posts_status_location_posted_date_id");
+    }
+
+    @Test
+    void rareKeywordUsesTheTrigramIndexes() {
+        String plan = explainPage(new JobSearchFilter(List.of("quokka"), null, null, null, null));
+
+        assertThat(plan).contains("idx_job_posts_title_trgm", "idx_job_posts_description_trgm")
+                .doesNotContain("Seq Scan on job_posts");
+        assertThat(searchRepo.findPage(new JobSearchFilter(List.of("quokka"), null, null, null, null),
+                JobSortField.POSTED_DATE, true, 0, 20).getContent()).hasSize(4);
+    }
+
+    @Test
+    void keysetContinuationUsesTheIndexOrder() {
+        JobSearchRepository.Statement statement = searchRepo.seekStatement(
+                new JobSearchFilter(null, null, null, JobStatus.OPEN, null), true,
+                LocalDateTime.of(2025, 12, 20, 0, 0), 12000L, 21);
+
+        String plan = explain(statement);
+
+        assertThat(plan).contains("idx_job_posts_status_posted_date_id").doesNotContain("Sort");
+    }
+
+    @Test
+    void estimatePlansTheCompiledFilter() {
+        JobSearchFilter filter = new JobSearchFilter(null, null, "City 7", JobStatus.OPEN, null);
+
+        OptionalLong estimate = rowCountEstimator.estimateJobs(filter);
+
+        assertThat(estimate).isPresent();
+        assertThat(estimate.getAsLong()).isBetween(50L, 400L);
+    }
+
+    private String explainPage(JobSearchFilter filter) {
+        JobSearchRepository.Statement statement = searchRepo.pageStatement(filter, JobSortField.POSTED_DATE,
+                true, 0, 20);
+        assertThat(statement.sql()).doesNotContain("IS NULL");
+        return explain(statement);
+    }
+
+    private String explain(JobSearchRepository.Statement statement) {
+        List<String> plan = jdbc.queryForList("EXPLAIN " + statement.sql(), String.class, statement.args());
+        return String.join("\n", plan);
+    }
+}
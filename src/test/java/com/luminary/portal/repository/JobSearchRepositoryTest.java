@@ -0,0 +1,207 @@
+package com.luminary.portal.repository;
+
+import com.luminary.portal.config.SearchIndexProperties;
+import com.luminary.portal.config.SqlStatsConfig;
+import com.luminary.portal.dto.job.JobPostSummary;
+import com.luminary.portal.entity.Company;
+import com.luminary.portal.entity.JobPost;
+import com.luminary.portal.entity.User;
+import com.luminary.portal.entity.enums.JobStatus;
+import com.luminary.portal.entity.enums.Role;
+import com.luminary.portal.service.search.JobKeywordIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.luminary.portal.support.StatementBudget.assertAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true")
+@Import({JobSearchRepository.class, SqlStatsConfig.class})
+class JobSearchRepositoryTest {
+
+    @Autowired
+    private JobSearchRepository searchRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Long> jobIds = new ArrayList<>();
+    private final JobKeywordIndex keywordIndex = new JobKeywordIndex(null, new SearchIndexProperties());
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int c = 0; c < 3; c++) {
+            User employer = User.builder()
+                    .name("Employer " + c)
+                    .email("search-employer" + c + "@example.com")
+                    .password("secret")
+                    .role(Role.EMPLOYER)
+                    .build();
+            entityManager.persist(employer);
+            Company company = Company.builder().name("Company " + c).owner(employer).build();
+            entityManager.persist(company);
+
+            for (int j = 0; j < 10; j++) {
+                JobPost job = JobPost.builder()
+                        .title("Engineer " + c + "-" + j)
+                        .description("Long description " + j)
+                        .location(j % 2 == 0 ? "Remote" : "Pune")
+                        .salary(1000.0 * (c * 10 + j))
+                        .status(j < 8 ? JobStatus.OPEN : JobStatus.CLOSED)
+                        .company(company)
+                        .postedBy(employer)
+                        .postedDate(now.minusMinutes(c * 10L + j))
+                        .build();
+                entityManager.persist(job);
+                jobIds.add(job.getId());
+                keywordIndex.index(job);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pageCarriesOnlyTheFiltersInUse() {
+        JobSearchFilter filter = new JobSearchFilter(null, null, "REMOTE", JobStatus.OPEN, null);
+
+        Slice<JobPostSummary> page = searchRepo.findPage(filter, JobSortField.POSTED_DATE, true, 0, 10);
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.getContent()).allSatisfy(summary -> {
+            assertThat(summary.getLocation()).isEqualTo("Remote");
+            assertThat(summary.getStatus()).isEqualTo(JobStatus.OPEN);
+            assertThat(summary.getCompanyName()).startsWith("Company ");
+            assertThat(summary.getPostedBy()).startsWith("Employer ");
+        });
+        assertThat(page.getContent()).isSortedAccordingTo(
+                Comparator.comparing(JobPostSummary::getPostedDate).reversed());
+        assertThat(searchRepo.count(filter)).isEqualTo(12);
+
+        String sql = searchRepo.pageStatement(filter, JobSortField.POSTED_DATE, true, 0, 10).sql();
+        assertThat(sql).doesNotContain("IS NULL").doesNotContain("LIKE")
+                .contains("LOWER(jp.location) = ?", "jp.status = ?");
+    }
+
+    @Test
+    void pageIsOneStatement() {
+        JobSearchFilter filter = new JobSearchFilter(List.of("engineer"), null, "remote", JobStatus.OPEN, "company");
+
+        Slice<JobPostSummary> page = assertAtMost(1,
+                () -> searchRepo.findPage(filter, JobSortField.SALARY, true, 0, 5));
+
+        assertThat(page.getContent()).hasSize(5);
+    }
+
+    @Test
+    void estimatePlansTheSamePredicatesAsTheCount() {
+        JobSearchFilter filter = new JobSearchFilter(List.of("engineer"), null, "remote", JobStatus.OPEN, "company");
+
+        JobSearchRepository.Statement count = searchRepo.countStatement(filter);
+        JobSearchRepository.Statement estimate = searchRepo.estimateStatement(filter);
+
+        assertThat(estimate.sql()).startsWith("SELECT 1 FROM")
+                .endsWith(count.sql().substring(count.sql().indexOf(" FROM ")));
+        assertThat(estimate.args()).containsExactly(count.args());
+    }
+
+    @Test
+    void keysetPagesFollowEachOther() {
+        JobSearchFilter filter = new JobSearchFilter(null, null, null, null, "company 1");
+
+        List<JobPostSummary> first = searchRepo.seek(filter, true, null, null, 6);
+        JobPostSummary last = first.get(first.size() - 1);
+        List<JobPostSummary> second = searchRepo.seek(filter, true, last.getPostedDate(), last.getId(), 6);
+
+        assertThat(first).hasSize(6);
+        assertThat(second).hasSize(4);
+        assertThat(first).allSatisfy(summary -> assertThat(summary.getCompanyName()).isEqualTo("Company 1"));
+        assertThat(second).allSatisfy(summary -> {
+            assertThat(summary.getCompanyName()).isEqualTo("Company 1");
+            assertThat(summary.getPostedDate()).isBefore(last.getPostedDate());
+        });
+    }
+
+    @Test
+    void candidateIdsArePaddedToAPowerOfTwo() {
+        JobSearchFilter filter = new JobSearchFilter(null, jobIds.subList(0, 3), null, null, null);
+
+        assertThat(searchRepo.count(filter)).isEqualTo(3);
+        assertThat(searchRepo.countStatement(filter).sql()).contains("jp.id IN (?, ?, ?, ?)");
+    }
+
+    @Test
+    void statementsAreCompiledOncePerShape() {
+        searchRepo.findPage(new JobSearchFilter(List.of("engineer"), null, null, null, null),
+                JobSortField.TITLE, false, 0, 5);
+        int shapes = searchRepo.compiledShapes();
+
+        Slice<JobPostSummary> page = searchRepo.findPage(new JobSearchFilter(List.of("0-1"), null, null, null, null),
+                JobSortField.TITLE, false, 0, 5);
+
+        assertThat(page.getContent()).extracting(JobPostSummary::getTitle).containsExactly("Engineer 0-1");
+        assertThat(searchRepo.compiledShapes()).isEqualTo(shapes);
+    }
+
+    @Test
+    void everyKeywordTermMustOccurInTitleOrDescription() {
+        JobSearchFilter filter = new JobSearchFilter(List.of("engineer", "description", "7"), null, null, null, null);
+
+        assertThat(searchRepo.count(filter)).isEqualTo(3);
+    }
+
+    @Test
+    void databaseMatchesKeywordsLikeTheKeywordIndex() {
+        for (String keyword : List.of("gineer", "eng", "engineer 1-3", "descr 7", "ong", "long 2", "9")) {
+            List<Long> indexed = Arrays.stream(keywordIndex.search(keyword)).asLongStream().boxed().toList();
+            JobSearchFilter filter = new JobSearchFilter(JobKeywordIndex.tokenize(keyword), null, null, null, null);
+
+            List<Long> matched = searchRepo.findPage(filter, JobSortField.ID, false, 0, 100).getContent().stream()
+                    .map(JobPostSummary::getId)
+                    .toList();
+
+            assertThat(matched).as(keyword).containsExactlyInAnyOrderElementsOf(indexed);
+        }
+    }
+
+    @Test
+    void likeWildcardsInTheKeywordAreMatchedLiterally() {
+        JobSearchFilter filter = new JobSearchFilter(List.of("_"), null, null, null, null);
+
+        assertThat(searchRepo.count(filter)).isZero();
+    }
+
+    @Test
+    void salarySortOrdersByTheSalaryColumn() {
+        Slice<JobPostSummary> page = searchRepo.findPage(new JobSearchFilter(null, null, null, null, null),
+                JobSortField.SALARY, false, 1, 5);
+
+        assertThat(page.getContent()).extracting(JobPostSummary::getSalary)
+                .containsExactly(5000.0, 6000.0, 7000.0, 8000.0, 9000.0);
+    }
+
+    @Test
+    void unknownSortKeysAreRejected() {
+        assertThat(JobSortField.from(null)).isEqualTo(JobSortField.POSTED_DATE);
+        assertThat(JobSortField.from("SALARY")).isEqualTo(JobSortField.SALARY);
+        assertThatThrownBy(() -> JobSortField.from("createdAt"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("postedDate");
+        assertThatThrownBy(() -> JobSortField.from("posted_date; DROP TABLE job_posts"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,65 @@
+package com.luminary.portal.repository;
+
+import com.luminary.portal.config.JobSearchIndexes;
+import com.luminary.portal.entity.enums.JobStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true")
+@Import({JobSearchRepository.class, JobSearchIndexes.class})
+class RowCountEstimatorTest {
+    private static final JobSearchFilter FILTER = new JobSearchFilter(List.of("java"), null, "remote",
+            JobStatus.OPEN, "acme");
+
+    @Autowired
+    private JobSearchRepository searchRepo;
+
+    @Autowired
+    private JobSearchIndexes searchIndexes;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void jobEstimateExplainsTheCompiledStatement() {
+        JobSearchRepository.Statement statement = searchRepo.estimateStatement(FILTER);
+        EntityManager planner = mock(EntityManager.class);
+        Query explain = mock(Query.class);
+        when(planner.createNativeQuery("EXPLAIN " + statement.sql())).thenReturn(explain);
+        when(explain.getResultList()).thenReturn(List.of(
+                "Nested Loop  (cost=0.29..120.50 rows=42 width=4)", "  ->  Index Scan using ..."));
+
+        assertThat(new RowCountEstimator(planner, searchRepo).estimateJobs(FILTER)).hasValue(42);
+        for (int i = 0; i < statement.args().length; i++) {
+            verify(explain).setParameter(i + 1, statement.args()[i]);
+        }
+    }
+
+    @Test
+    void compiledEstimateStatementIsValidSql() {
+        JobSearchRepository.Statement statement = searchRepo.estimateStatement(FILTER);
+        Query explain = entityManager.createNativeQuery("EXPLAIN " + statement.sql());
+        for (int i = 0; i < statement.args().length; i++) {
+            explain.setParameter(i + 1, statement.args()[i]);
+        }
+
+        assertThat(explain.getResultList()).isNotEmpty();
+    }
+
+    @Test
+    void indexInstallDoesNotFailInsideATransaction() {
+        assertThatCode(searchIndexes::install).doesNotThrowAnyException();
+    }
+}
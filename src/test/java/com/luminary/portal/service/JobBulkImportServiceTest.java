@@ -0,0 +1,91 @@
+package com.luminary.portal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luminary.portal.config.BulkImportProperties;
+import com.luminary.portal.dto.job.BulkItemResult;
+import com.luminary.portal.dto.job.BulkJobResponse;
+import com.luminary.portal.entity.enums.Role;
+import com.luminary.portal.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobBulkImportServiceTest {
+    private static final String JOB = """
+            {"title": "Engineer", "description": "Builds things", "location": "Remote", "companyId": 1}""";
+
+    private final AuthenticatedUser employer = new AuthenticatedUser(1L, "employer@example.com", "Employer",
+            Role.EMPLOYER, 1L);
+
+    private ValidatorFactory validatorFactory;
+    private JobBulkImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        JobPostService jobService = mock(JobPostService.class);
+        AtomicLong ids = new AtomicLong();
+        when(jobService.createJobBatch(anyList(), eq(employer))).thenAnswer(invocation ->
+                ((List<?>) invocation.getArgument(0)).stream().map(request -> ids.incrementAndGet()).toList());
+
+        BulkImportProperties props = new BulkImportProperties();
+        props.setBatchSize(2);
+        props.setMaxItems(3);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        importService = new JobBulkImportService(jobService, props, new ObjectMapper(),
+                validatorFactory.getValidator(), mock(EntityManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void elementsPastTheLimitAreReportedAsRejected() throws IOException {
+        BulkJobResponse response = importJobs(IntStream.range(0, 5).mapToObj(i -> JOB)
+                .collect(Collectors.joining(", ", "[", "]")));
+
+        assertThat(response.getReceived()).isEqualTo(5);
+        assertThat(response.getCreated()).isEqualTo(3);
+        assertThat(response.getSkipped()).isEqualTo(2);
+        assertThat(response.getRejected()).isEqualTo(2);
+        assertThat(response.getItems()).extracting(BulkItemResult::getOutcome)
+                .containsOnly(BulkItemResult.Outcome.CREATED);
+    }
+
+    @Test
+    void nonObjectElementsAreInvalid() throws IOException {
+        BulkJobResponse response = importJobs("[" + JOB + ", 42, [" + JOB + "]]");
+
+        assertThat(response.getReceived()).isEqualTo(3);
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getRejected()).isEqualTo(2);
+        assertThat(response.getItems()).extracting(BulkItemResult::getIndex, BulkItemResult::getOutcome)
+                .containsExactly(
+                        tuple(0, BulkItemResult.Outcome.CREATED),
+                        tuple(1, BulkItemResult.Outcome.INVALID),
+                        tuple(2, BulkItemResult.Outcome.INVALID));
+    }
+
+    private BulkJobResponse importJobs(String body) throws IOException {
+        return importService.importJobs(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), employer);
+    }
+}
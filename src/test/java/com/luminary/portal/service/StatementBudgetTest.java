@@ -0,0 +1,113 @@
+package com.luminary.portal.service;
+
+import com.luminary.portal.dto.ApplicationResponse;
+import com.luminary.portal.dto.job.JobSearchRequest;
+import com.luminary.portal.dto.job.JobSearchResponse;
+import com.luminary.portal.entity.Application;
+import com.luminary.portal.entity.Company;
+import com.luminary.portal.entity.JobPost;
+import com.luminary.portal.entity.User;
+import com.luminary.portal.entity.enums.ApplicationStatus;
+import com.luminary.portal.entity.enums.JobStatus;
+import com.luminary.portal.entity.enums.Role;
+import com.luminary.portal.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.luminary.portal.support.StatementBudget.assertAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-budget;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+        "app.search.cache.enabled=false"
+})
+@Transactional
+class StatementBudgetTest {
+
+    @Autowired
+    private JobPostService jobService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User seeker;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        seeker = persistUser("Seeker", "budget-seeker@example.com", Role.JOB_SEEKER);
+
+        for (int c = 0; c < 3; c++) {
+            User employer = persistUser("Employer " + c, "budget-employer" + c + "@example.com", Role.EMPLOYER);
+            Company company = Company.builder().name("Budget Company " + c).owner(employer).build();
+            entityManager.persist(company);
+
+            for (int j = 0; j < 10; j++) {
+                JobPost job = JobPost.builder()
+                        .title("Engineer " + c + "-" + j)
+                        .description("Long description " + j)
+                        .location("Remote")
+                        .salary(1000.0 * j)
+                        .status(JobStatus.OPEN)
+                        .company(company)
+                        .postedBy(employer)
+                        .postedDate(now.minusMinutes(c * 10L + j))
+                        .build();
+                entityManager.persist(job);
+
+                entityManager.persist(Application.builder()
+                        .job(job)
+                        .applicant(seeker)
+                        .status(ApplicationStatus.APPLIED)
+                        .appliedAt(now.minusMinutes(j))
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void searchJobsStaysWithinPageAndCountQueries() {
+        JobSearchRequest request = new JobSearchRequest();
+        request.getPagination().setSize(20);
+
+        JobSearchResponse response = assertAtMost(2, () -> jobService.searchJobs(request));
+
+        assertThat(response.getResults().getContent()).hasSize(20);
+    }
+
+    @Test
+    void applicantListingIsOneQuery() {
+        List<ApplicationResponse> applications = assertAtMost(1,
+                () -> applicationService.getApplicationsForApplicant(AuthenticatedUser.from(seeker)));
+
+        assertThat(applications).hasSize(30);
+    }
+
+    private User persistUser(String name, String email, Role role) {
+        User user = User.builder()
+                .name(name)
+                .email(email)
+                .password("secret")
+                .role(role)
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
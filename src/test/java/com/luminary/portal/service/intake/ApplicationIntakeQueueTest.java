@@ -0,0 +1,98 @@
+package com.luminary.portal.service.intake;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.luminary.portal.config.IntakeProperties;
+import com.luminary.portal.service.ApplicationDataVersion;
+import com.luminary.portal.service.AppliedPairsFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ApplicationIntakeQueueTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path dir;
+
+    private IntakeProperties props;
+    private ApplicationIntakeQueue intake;
+
+    @BeforeEach
+    void setUp() {
+        props = new IntakeProperties();
+        props.setEnabled(true);
+        props.setQueueCapacity(2);
+        props.setBatchSize(2);
+        props.setMaxBatchDelay(Duration.ofMillis(20));
+        props.setJournalPath(dir.resolve("intake.journal").toString());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (intake != null) {
+            intake.stop();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void recoveredApplicationsStayJournaledUntilTheyAreSaved() throws Exception {
+        List<PendingApplication> journaled = IntStream.range(0, 5)
+                .mapToObj(i -> new PendingApplication("recovered-" + i, 1L, 100L + i, null, LocalDateTime.now()))
+                .toList();
+        try (IntakeJournal journal = journal()) {
+            journaled.forEach(journal::accepted);
+        }
+
+        // the database is down, so nothing recovered can be saved yet
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("database unavailable"));
+        intake = new ApplicationIntakeQueue(props, objectMapper, mock(AppliedPairsFilter.class),
+                new ApplicationDataVersion(100), dataSource, "");
+
+        // more entries than the queue holds must not block startup
+        intake.start();
+        Thread.sleep(props.getMaxBatchDelay().toMillis() * 10);
+        intake.stop();
+        intake = null;
+
+        try (IntakeJournal journal = journal()) {
+            assertThat(journal.outstanding()).extracting(PendingApplication::provisionalId)
+                    .containsExactlyElementsOf(journaled.stream().map(PendingApplication::provisionalId).toList());
+        }
+    }
+
+    @Test
+    void recoveredApplicationsCanBeLookedUp() throws Exception {
+        try (IntakeJournal journal = journal()) {
+            journal.accepted(new PendingApplication("recovered", 1L, 100L, null, LocalDateTime.now()));
+        }
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("database unavailable"));
+        intake = new ApplicationIntakeQueue(props, objectMapper, mock(AppliedPairsFilter.class),
+                new ApplicationDataVersion(100), dataSource, "");
+
+        intake.start();
+
+        assertThat(intake.status("recovered").state()).isEqualTo(IntakeState.QUEUED);
+    }
+
+    private IntakeJournal journal() throws Exception {
+        return new IntakeJournal(Path.of(props.getJournalPath()), objectMapper, false);
+    }
+}
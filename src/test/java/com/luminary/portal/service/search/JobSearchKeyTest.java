@@ -0,0 +1,39 @@
+package com.luminary.portal.service.search;
+
+import com.luminary.portal.dto.search.PaginationMode;
+import com.luminary.portal.dto.search.TotalsMode;
+import com.luminary.portal.service.EtagWindow;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSearchKeyTest {
+
+    @Test
+    void etagIdentifiesTheSearchTheSameWayOnEveryNode() {
+        JobSearchKey onOneNode = key(1_000L, "  Java ", "open");
+        JobSearchKey onAnotherNode = key(987_654_321L, "java", "OPEN");
+
+        assertThat(onOneNode.etag("w")).isEqualTo(onAnotherNode.etag("w"))
+                // a literal, so the tag cannot silently start depending on the process
+                .isEqualTo("jobs-8c2ac5e5992259ab7aae6205111e0980-w");
+        assertThat(onOneNode.etag("w")).isNotEqualTo(key(1_000L, "java", "closed").etag("w"));
+    }
+
+    @Test
+    void stampCarriesOnlyVersionsThatMovedInTheCurrentWindow() {
+        EtagWindow window = new EtagWindow(Duration.ofHours(1));
+        long quiet = System.currentTimeMillis() - Duration.ofHours(3).toMillis();
+        long recent = System.currentTimeMillis();
+
+        assertThat(window.stamp(quiet)).doesNotContain(".");
+        assertThat(window.stamp(quiet, recent)).endsWith("." + Long.toHexString(recent));
+    }
+
+    private static JobSearchKey key(long dataVersion, String keyword, String status) {
+        return JobSearchKey.of(dataVersion, keyword, true, null, status, null, "postedDate", "desc", 0, 20,
+                PaginationMode.OFFSET, null, TotalsMode.EXACT);
+    }
+}
@@ -0,0 +1,28 @@
+package com.luminary.portal.support;
+
+import com.luminary.portal.service.metrics.SqlStatementCounter;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fails a test when the code under measurement runs more SQL statements than its budget.
+ * Counts come from the statement-counting DataSource, so every statement is seen: JPA,
+ * JdbcTemplate and lazy loads triggered while the code runs.
+ */
+public final class StatementBudget {
+
+    private StatementBudget() {
+    }
+
+    public static <T> T assertAtMost(int maxStatements, Supplier<T> action) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            T result = action.get();
+            assertThat(scope.stats().getStatements())
+                    .as("SQL statements (budget %d, %s)", maxStatements, scope.stats().toHeaderValue())
+                    .isLessThanOrEqualTo(maxStatements);
+            return result;
+        }
+    }
+}